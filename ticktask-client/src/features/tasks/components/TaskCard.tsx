@@ -1,7 +1,7 @@
 import { format } from "date-fns";
 import { MoreVertical, Calendar as CalendarIcon, Edit, Trash } from "lucide-react";
 
-import type { Task } from "../types";
+import type { TaskSummary } from "../types";
 import { Card, CardContent, CardHeader, CardTitle } from "@/components/ui/card";
 import { Badge } from "@/components/ui/badge";
 import { Button } from "@/components/ui/button";
@@ -13,8 +13,8 @@ import {
 } from "@/components/ui/dropdown-menu";
 
 interface TaskCardProps {
-    task: Task;
-    onEdit: (task: Task) => void;
+    task: TaskSummary;
+    onEdit: (task: TaskSummary) => void;
     onDelete: (id: number) => void;
 }
 
@@ -73,9 +73,10 @@ export function TaskCard({ task, onEdit, onDelete }: TaskCardProps) {
                 </DropdownMenu>
             </CardHeader>
             <CardContent className="flex-1 p-4 pt-2 flex flex-col gap-3">
-                {task.description && (
+                {task.descriptionPreview && (
                     <p className="text-sm text-slate-500 dark:text-slate-400 line-clamp-3">
-                        {task.description}
+                        {task.descriptionPreview}
+                        {task.descriptionTruncated && "…"}
                     </p>
                 )}
 
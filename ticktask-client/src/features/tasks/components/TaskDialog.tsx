@@ -5,7 +5,7 @@ import { format } from "date-fns";
 import { CalendarIcon } from "lucide-react";
 
 import { useTaskStore } from "../hooks/useTaskStore";
-import { useCreateTask, useUpdateTask } from "../hooks/useTasks";
+import { useCreateTask, useTask, useUpdateTask } from "../hooks/useTasks";
 import { CreateTaskSchema, type CreateTaskRequest } from "../types";
 
 import { cn } from "@/lib/utils";
@@ -42,6 +42,8 @@ export function TaskDialog() {
     const { isTaskModalOpen, closeTaskModal, selectedTask } = useTaskStore();
     const createTask = useCreateTask();
     const updateTask = useUpdateTask();
+    // The list only carries a preview; load the full description before editing
+    const fullTask = useTask(selectedTask?.id);
 
     const isEditing = !!selectedTask;
 
@@ -60,7 +62,7 @@ export function TaskDialog() {
         if (selectedTask) {
             form.reset({
                 title: selectedTask.title,
-                description: selectedTask.description || "",
+                description: fullTask.data?.description || "",
                 status: selectedTask.status,
                 priority: selectedTask.priority,
                 dueDate: selectedTask.dueDate,
@@ -73,7 +75,7 @@ export function TaskDialog() {
                 priority: "MEDIUM",
             });
         }
-    }, [selectedTask, form, isTaskModalOpen]);
+    }, [selectedTask, fullTask.data, form, isTaskModalOpen]);
 
     const onSubmit = (data: CreateTaskRequest) => {
         if (isEditing && selectedTask) {
@@ -90,7 +92,7 @@ export function TaskDialog() {
         }
     };
 
-    const isPending = createTask.isPending || updateTask.isPending;
+    const isPending = createTask.isPending || updateTask.isPending || (isEditing && !fullTask.data);
 
     return (
         <Dialog open={isTaskModalOpen} onOpenChange={(open) => !open && closeTaskModal()}>
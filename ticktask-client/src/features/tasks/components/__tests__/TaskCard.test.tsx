@@ -1,12 +1,13 @@
 import { describe, it, expect, vi } from 'vitest';
 import { render, screen } from '@testing-library/react';
 import { TaskCard } from '../TaskCard';
-import type { Task } from '../../types';
+import type { TaskSummary } from '../../types';
 
-const mockTask: Task = {
+const mockTask: TaskSummary = {
     id: 1,
     title: 'Test Task',
-    description: 'This is a test task description',
+    descriptionPreview: 'This is a test task description',
+    descriptionTruncated: false,
     status: 'TODO',
     priority: 'HIGH',
     dueDate: '2024-12-31',
@@ -76,7 +77,7 @@ describe('TaskCard', () => {
     });
 
     it('does not show description when empty', () => {
-        const taskWithoutDesc = { ...mockTask, description: undefined };
+        const taskWithoutDesc = { ...mockTask, descriptionPreview: undefined };
         render(
             <TaskCard
                 task={taskWithoutDesc}
@@ -88,6 +89,19 @@ describe('TaskCard', () => {
         expect(screen.queryByText('This is a test task description')).not.toBeInTheDocument();
     });
 
+    it('marks a truncated description preview', () => {
+        const truncatedTask = { ...mockTask, descriptionTruncated: true };
+        render(
+            <TaskCard
+                task={truncatedTask}
+                onEdit={vi.fn()}
+                onDelete={vi.fn()}
+            />
+        );
+
+        expect(screen.getByText('This is a test task description…')).toBeInTheDocument();
+    });
+
     it('renders IN_PROGRESS status with space', () => {
         const inProgressTask = { ...mockTask, status: 'IN_PROGRESS' as const };
         render(
@@ -1,11 +1,11 @@
 import { create } from "zustand";
-import type { Task } from "../types";
+import type { TaskSummary } from "../types";
 
 interface TaskStore {
     isTaskModalOpen: boolean;
-    selectedTask: Task | null;
+    selectedTask: TaskSummary | null;
     openCreateModal: () => void;
-    openEditModal: (task: Task) => void;
+    openEditModal: (task: TaskSummary) => void;
     closeTaskModal: () => void;
 }
 
@@ -1,5 +1,6 @@
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
-import { createTask, deleteTask, getTasks, updateTask } from "../services/taskApi";
+import { useEffect, useState } from "react";
+import { keepPreviousData, useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
+import { createTask, deleteTask, getTask, getTasks, searchTasks, updateTask } from "../services/taskApi";
 import type { CreateTaskRequest, UpdateTaskRequest } from "../types";
 import { toast } from "sonner";
 
@@ -14,6 +15,31 @@ export function useTasks() {
     });
 }
 
+export function useTask(id: number | undefined) {
+    return useQuery({
+        queryKey: [...TASK_KEYS.all, id],
+        queryFn: () => getTask(id!),
+        enabled: id !== undefined,
+    });
+}
+
+// Debounced so typing sends one request per pause rather than one per keystroke
+export function useTaskSearch(text: string, delayMs = 300) {
+    const [query, setQuery] = useState(text);
+
+    useEffect(() => {
+        const timer = setTimeout(() => setQuery(text), delayMs);
+        return () => clearTimeout(timer);
+    }, [text, delayMs]);
+
+    return useQuery({
+        queryKey: [...TASK_KEYS.all, "search", query],
+        queryFn: () => searchTasks(query),
+        enabled: query.length > 0,
+        placeholderData: keepPreviousData,
+    });
+}
+
 export function useCreateTask() {
     const queryClient = useQueryClient();
 
@@ -6,12 +6,12 @@ export { TaskCard } from "./components/TaskCard";
 export { TaskDialog } from "./components/TaskDialog";
 
 // Hooks
-export { useTasks, useCreateTask, useUpdateTask, useDeleteTask, TASK_KEYS } from "./hooks/useTasks";
+export { useTasks, useTask, useTaskSearch, useCreateTask, useUpdateTask, useDeleteTask, TASK_KEYS } from "./hooks/useTasks";
 export { useTaskStore } from "./hooks/useTaskStore";
 
 // Types
-export type { Task, CreateTaskRequest, UpdateTaskRequest, Priority, TaskStatus } from "./types";
-export { TaskSchema, CreateTaskSchema, UpdateTaskSchema, PrioritySchema, TaskStatusSchema } from "./types";
+export type { Task, TaskSummary, CreateTaskRequest, UpdateTaskRequest, Priority, TaskStatus } from "./types";
+export { TaskSchema, TaskSummarySchema, CreateTaskSchema, UpdateTaskSchema, PrioritySchema, TaskStatusSchema, toTaskSummary } from "./types";
 
 // Services
 export * from "./services/taskApi";
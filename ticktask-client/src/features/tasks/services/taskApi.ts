@@ -1,11 +1,20 @@
 import { api } from "@/lib/axios";
-import type { CreateTaskRequest, Task, UpdateTaskRequest } from "../types";
+import { toTaskSummary, type CreateTaskRequest, type Task, type TaskSummary, type UpdateTaskRequest } from "../types";
 
-export const getTasks = async (): Promise<Task[]> => {
+// The server's largest page size
+const SEARCH_LIMIT = 200;
+
+export const getTasks = async (): Promise<TaskSummary[]> => {
     const { data } = await api.get("/api/tasks");
     return data;
 };
 
+// Full-text search over titles and full descriptions, most relevant first
+export const searchTasks = async (text: string): Promise<TaskSummary[]> => {
+    const { data } = await api.get<Task[]>("/api/tasks/search", { params: { q: text, limit: SEARCH_LIMIT } });
+    return data.map(toTaskSummary);
+};
+
 export const getTask = async (id: number): Promise<Task> => {
     const { data } = await api.get(`/api/tasks/${id}`);
     return data;
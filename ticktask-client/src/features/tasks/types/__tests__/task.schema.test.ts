@@ -5,6 +5,8 @@ import {
     UpdateTaskSchema,
     PrioritySchema,
     TaskStatusSchema,
+    DESCRIPTION_PREVIEW_LENGTH,
+    toTaskSummary,
 } from '../index';
 
 describe('Task Schemas', () => {
@@ -155,4 +157,31 @@ describe('Task Schemas', () => {
             expect(() => UpdateTaskSchema.parse(invalidUpdate)).toThrow();
         });
     });
+
+    describe('toTaskSummary', () => {
+        const task = {
+            id: 1,
+            title: 'Search hit',
+            status: 'TODO' as const,
+            priority: 'HIGH' as const,
+            createdAt: '2024-01-01T00:00:00Z',
+            updatedAt: '2024-01-01T00:00:00Z',
+        };
+
+        it('cuts a long description to the list preview', () => {
+            const summary = toTaskSummary({ ...task, description: 'x'.repeat(DESCRIPTION_PREVIEW_LENGTH + 1) });
+
+            expect(summary.descriptionPreview).toHaveLength(DESCRIPTION_PREVIEW_LENGTH);
+            expect(summary.descriptionTruncated).toBe(true);
+            expect(summary).not.toHaveProperty('description');
+        });
+
+        it('keeps a short or missing description whole', () => {
+            expect(toTaskSummary({ ...task, description: 'Short' })).toMatchObject({
+                descriptionPreview: 'Short',
+                descriptionTruncated: false,
+            });
+            expect(toTaskSummary(task).descriptionTruncated).toBe(false);
+        });
+    });
 });
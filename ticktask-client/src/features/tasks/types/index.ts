@@ -19,6 +19,25 @@ export const TaskSchema = z.object({
 
 export type Task = z.infer<typeof TaskSchema>;
 
+// List endpoints return a description preview; the full text comes from GET /api/tasks/{id}
+export const TaskSummarySchema = TaskSchema.omit({ description: true }).extend({
+    descriptionPreview: z.string().nullish(),
+    descriptionTruncated: z.boolean(),
+});
+
+export type TaskSummary = z.infer<typeof TaskSummarySchema>;
+
+// Same cut as the server's list endpoints (TaskSummary.DESCRIPTION_PREVIEW_LENGTH)
+export const DESCRIPTION_PREVIEW_LENGTH = 200;
+
+export function toTaskSummary({ description, ...task }: Task): TaskSummary {
+    return {
+        ...task,
+        descriptionPreview: description?.slice(0, DESCRIPTION_PREVIEW_LENGTH),
+        descriptionTruncated: (description?.length ?? 0) > DESCRIPTION_PREVIEW_LENGTH,
+    };
+}
+
 export const CreateTaskSchema = z.object({
     title: z.string().min(1, "Title is required").max(100),
     description: z.string().optional(),
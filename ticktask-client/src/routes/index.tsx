@@ -2,7 +2,7 @@ import { createFileRoute } from '@tanstack/react-router'
 import { Plus, LayoutList, Filter } from 'lucide-react'
 import { useState } from 'react'
 
-import { useTasks, useDeleteTask, useTaskStore, TaskCard, type Task } from '@/features/tasks'
+import { useTasks, useTaskSearch, useDeleteTask, useTaskStore, TaskCard, type TaskSummary } from '@/features/tasks'
 import { Button } from '@/components/ui/button'
 import { Input } from "@/components/ui/input"
 import {
@@ -24,6 +24,8 @@ function Dashboard() {
     const { openCreateModal, openEditModal } = useTaskStore()
     const [filterStatus, setFilterStatus] = useState<string[]>(['TODO', 'IN_PROGRESS', 'DONE'])
     const [search, setSearch] = useState('')
+    const searchText = search.trim()
+    const { data: searchResults, isError: isSearchError } = useTaskSearch(searchText)
 
     if (isLoading) {
         return (
@@ -34,11 +36,7 @@ function Dashboard() {
                         <Plus className="mr-2 h-4 w-4" /> New Task
                     </Button>
                 </div>
-                <div className="grid grid-cols-1 gap-6 sm:grid-cols-2 lg:grid-cols-3 xl:grid-cols-4">
-                    {[1, 2, 3, 4].map((i) => (
-                        <div key={i} className="h-48 rounded-xl border bg-slate-100 dark:bg-slate-800 animate-pulse" />
-                    ))}
-                </div>
+                <TaskGridSkeleton />
             </div>
         )
     }
@@ -58,12 +56,10 @@ function Dashboard() {
         )
     }
 
-    const filteredTasks = tasks?.filter((task) => {
-        const matchesStatus = filterStatus.includes(task.status);
-        const matchesSearch = task.title.toLowerCase().includes(search.toLowerCase()) ||
-            task.description?.toLowerCase().includes(search.toLowerCase());
-        return matchesStatus && matchesSearch;
-    });
+    // The list only carries a description preview, so searches go to the server, which matches
+    // the full description
+    const source = searchText ? searchResults : tasks;
+    const filteredTasks = source?.filter((task) => filterStatus.includes(task.status));
 
     const handleDelete = (id: number) => {
         if (confirm("Are you sure you want to delete this task?")) {
@@ -134,7 +130,7 @@ function Dashboard() {
 
             {filteredTasks && filteredTasks.length > 0 ? (
                 <div className="grid grid-cols-1 gap-6 sm:grid-cols-2 lg:grid-cols-3 xl:grid-cols-4">
-                    {filteredTasks.map((task: Task) => (
+                    {filteredTasks.map((task: TaskSummary) => (
                         <TaskCard
                             key={task.id}
                             task={task}
@@ -143,6 +139,8 @@ function Dashboard() {
                         />
                     ))}
                 </div>
+            ) : searchText && !searchResults && !isSearchError ? (
+                <TaskGridSkeleton />
             ) : (
                 <div className="flex h-[400px] flex-col items-center justify-center rounded-lg border border-dashed p-8 text-center animate-in fade-in-50">
                     <div className="mx-auto flex h-12 w-12 items-center justify-center rounded-full bg-slate-100 dark:bg-slate-800">
@@ -168,3 +166,13 @@ function Dashboard() {
         </div>
     )
 }
+
+function TaskGridSkeleton() {
+    return (
+        <div className="grid grid-cols-1 gap-6 sm:grid-cols-2 lg:grid-cols-3 xl:grid-cols-4">
+            {[1, 2, 3, 4].map((i) => (
+                <div key={i} className="h-48 rounded-xl border bg-slate-100 dark:bg-slate-800 animate-pulse" />
+            ))}
+        </div>
+    )
+}
@@ -0,0 +1,67 @@
+package com.callanga.task_manager.benchmark;
+
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.repository.TaskSummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Representative task fixtures shared by the benchmarks.
+ */
+final class BenchmarkTasks {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 15, 9, 30);
+
+    private BenchmarkTasks() {
+    }
+
+    static Task entity(long id) {
+        return Task.builder()
+                .id(id)
+                .title("Prepare quarterly report " + id)
+                .description("Collect the numbers from finance, draft the summary and circulate it for review.")
+                .status(TaskStatus.values()[(int) (id % TaskStatus.values().length)])
+                .priority(Priority.values()[(int) (id % Priority.values().length)])
+                .dueDate(LocalDate.of(2025, 3, 31))
+                .createdAt(CREATED_AT.plusMinutes(id))
+                .updatedAt(CREATED_AT.plusMinutes(id + 5))
+                .version(3L)
+                .build();
+    }
+
+    static List<TaskResponse> responses(int count) {
+        List<TaskResponse> responses = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            responses.add(TaskResponse.fromEntity(entity(id)));
+        }
+        return responses;
+    }
+
+    static List<TaskSummaryResponse> summaries(int count) {
+        List<TaskSummaryResponse> summaries = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Task task = entity(id);
+            summaries.add(TaskSummaryResponse.fromSummary(new TaskSummary(task.getId(), task.getTitle(),
+                    task.getDescription(), task.getStatus(), task.getPriority(), task.getDueDate(),
+                    task.getCreatedAt(), task.getUpdatedAt(), task.getVersion())));
+        }
+        return summaries;
+    }
+
+    static TaskRequest request(String title) {
+        return TaskRequest.builder()
+                .title(title)
+                .description("Created by the service benchmark")
+                .priority(Priority.HIGH)
+                .dueDate(LocalDate.of(2025, 3, 31))
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.callanga.task_manager.benchmark;
+
+import com.callanga.task_manager.cache.TaskJsonFragmentCache;
+import com.callanga.task_manager.cache.TaskSummaryJsonHttpMessageConverter;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of task lists at the sizes the API returns: one task, a page, and the
+ * capped full list. The summary list is also written the way {@code GET /api/tasks} writes it,
+ * from warm cached fragments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskJsonSerializationBenchmark {
+
+    @Param({"1", "50", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> tasks;
+    private List<TaskSummaryResponse> summaries;
+    private TaskSummaryJsonHttpMessageConverter fragmentConverter;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        objectMapper = jsonMapper;
+        tasks = BenchmarkTasks.responses(size);
+        summaries = BenchmarkTasks.summaries(size);
+        fragmentConverter = new TaskSummaryJsonHttpMessageConverter(
+                new TaskJsonFragmentCache(jsonMapper, new SimpleMeterRegistry(), DataSize.ofMegabytes(32)));
+        writeSummaryListFromFragments();
+    }
+
+    @Benchmark
+    public byte[] writeList() {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] writeSummaryList() {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+
+    @Benchmark
+    public byte[] writeSummaryListFromFragments() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        fragmentConverter.write(summaries, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+}
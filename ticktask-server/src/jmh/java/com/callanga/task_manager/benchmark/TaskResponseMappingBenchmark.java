@@ -0,0 +1,40 @@
+package com.callanga.task_manager.benchmark;
+
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a task entity to its response DTO, paid once per task on every read path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskResponseMappingBenchmark {
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        task = BenchmarkTasks.entity(1L);
+    }
+
+    @Benchmark
+    public TaskResponse fromEntity() {
+        return TaskResponse.fromEntity(task);
+    }
+}
@@ -0,0 +1,114 @@
+package com.callanga.task_manager.benchmark;
+
+import com.callanga.task_manager.TaskManagerApplication;
+import com.callanga.task_manager.config.CacheConfig;
+import com.callanga.task_manager.dto.TaskPageResponse;
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskService} CRUD paths through the full Spring context (transactions, cache, events,
+ * search index) against embedded H2, without HTTP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskServiceBenchmark {
+
+    private static final int SEED_TASKS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Cache tasksCache;
+    private long[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+        tasksCache = Objects.requireNonNull(context.getBean(CacheManager.class).getCache(CacheConfig.TASKS_CACHE));
+        ids = new long[SEED_TASKS];
+        for (int i = 0; i < SEED_TASKS; i++) {
+            ids[i] = taskService.createTask(BenchmarkTasks.request("Seed " + i)).getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextId() {
+        next = (next + 1) % ids.length;
+        return ids[next];
+    }
+
+    @Benchmark
+    public TaskResponse getTaskCached() {
+        return taskService.getTask(nextId());
+    }
+
+    @Benchmark
+    public TaskResponse getTaskUncached() {
+        long id = nextId();
+        tasksCache.evict(id);
+        return taskService.getTask(id);
+    }
+
+    @Benchmark
+    public TaskPageResponse<TaskSummaryResponse> getTaskPage() {
+        return taskService.getTaskPage(null, 50);
+    }
+
+    @Benchmark
+    public TaskResponse updateTask() {
+        long id = nextId();
+        TaskRequest request = BenchmarkTasks.request("Updated " + next);
+        return taskService.updateTask(id, request);
+    }
+
+    @Benchmark
+    public TaskResponse patchTask() {
+        return taskService.patchTask(nextId(), Map.of("status", next % 2 == 0 ? TaskStatus.DONE.name() : TaskStatus.TODO.name()), null);
+    }
+
+    /**
+     * Create and delete together so the table stays at its seeded size.
+     */
+    @Benchmark
+    public TaskResponse createAndDeleteTask() {
+        TaskResponse created = taskService.createTask(BenchmarkTasks.request("Transient"));
+        taskService.deleteTask(created.getId());
+        return created;
+    }
+}
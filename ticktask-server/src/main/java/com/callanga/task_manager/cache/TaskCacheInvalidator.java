@@ -0,0 +1,60 @@
+package com.callanga.task_manager.cache;
+
+import com.callanga.task_manager.config.CacheConfig;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the {@value CacheConfig#TASKS_CACHE} cache in step with committed writes.
+ * Creates and updates write the new response through; deletes evict. Because this runs after
+ * commit, every write path (single, batch, future ones) is covered and rolled-back changes never
+ * reach the cache.
+ *
+ * <p>Listeners of concurrent commits to one task may run in either order, so a write only
+ * replaces a cached entry with a lower version; otherwise an older response could sit in the
+ * cache, and answer conditional GETs with its ETag, until the entry expires.
+ */
+@Component
+public class TaskCacheInvalidator {
+
+    private final ConcurrentMap<Object, Object> tasks;
+
+    public TaskCacheInvalidator(CacheManager cacheManager) {
+        Cache tasksCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.TASKS_CACHE),
+                "Cache '" + CacheConfig.TASKS_CACHE + "' is not configured");
+        this.tasks = asMap(tasksCache);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == TaskChangedEvent.Type.DELETED) {
+            tasks.remove(event.getTaskId());
+        } else {
+            tasks.merge(event.getTaskId(), event.getTask(), TaskCacheInvalidator::newer);
+        }
+    }
+
+    private static Object newer(Object cached, Object written) {
+        return cached instanceof TaskResponse current && written instanceof TaskResponse next
+                && current.getVersion() != null && next.getVersion() != null
+                && current.getVersion() > next.getVersion() ? cached : written;
+    }
+
+    /**
+     * Map view of the Caffeine cache, whose {@code merge} is atomic per key.
+     */
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<Object, Object> asMap(Cache cache) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return (ConcurrentMap<Object, Object>) caffeine.asMap();
+        }
+        throw new IllegalStateException("Cache '" + cache.getName() + "' is not a Caffeine cache");
+    }
+}
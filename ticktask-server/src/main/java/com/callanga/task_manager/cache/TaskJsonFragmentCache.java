@@ -0,0 +1,75 @@
+package com.callanga.task_manager.cache;
+
+import com.callanga.task_manager.dto.TaskSummaryResponse;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Objects;
+
+/**
+ * Encoded JSON of each task summary, so list responses are assembled from bytes instead of
+ * re-serializing tasks that have not changed. An entry is only served while its version matches
+ * the task being written, and committed writes evict it, so a stale fragment is never sent.
+ *
+ * <p>Memory is bounded by the total size of the encoded fragments; hits, misses and evictions
+ * are published as {@code cache.*} metrics under {@value #CACHE_NAME}.
+ */
+@Component
+public class TaskJsonFragmentCache {
+
+    public static final String CACHE_NAME = "taskJsonFragments";
+
+    /**
+     * Rough per-entry cost of the key, the entry and the array header, on top of the JSON bytes.
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final JsonMapper jsonMapper;
+    private final StatsCounter stats = new ConcurrentStatsCounter();
+    private final Cache<Long, Fragment> fragments;
+
+    public TaskJsonFragmentCache(JsonMapper jsonMapper, MeterRegistry meterRegistry,
+                                 @Value("${task.cache.json.max-size:32MB}") DataSize maxSize) {
+        this.jsonMapper = jsonMapper;
+        this.fragments = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, Fragment fragment) -> fragment.json().length + ENTRY_OVERHEAD)
+                .recordStats(() -> stats)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragments, CACHE_NAME);
+    }
+
+    /**
+     * The task's JSON, from the cache when the cached entry is at the same version.
+     */
+    public byte[] getJson(TaskSummaryResponse task) {
+        // Looked up quietly and counted here, so a version mismatch counts as the miss it is
+        Fragment cached = fragments.policy().getIfPresentQuietly(task.getId());
+        if (cached != null && Objects.equals(cached.version(), task.getVersion())) {
+            stats.recordHits(1);
+            return cached.json();
+        }
+        stats.recordMisses(1);
+        byte[] json = jsonMapper.writeValueAsBytes(task);
+        fragments.put(task.getId(), new Fragment(task.getVersion(), json));
+        return json;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        fragments.invalidate(event.getTaskId());
+    }
+
+    private record Fragment(Long version, byte[] json) {
+    }
+}
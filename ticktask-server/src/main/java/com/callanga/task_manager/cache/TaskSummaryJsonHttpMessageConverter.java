@@ -0,0 +1,71 @@
+package com.callanga.task_manager.cache;
+
+import com.callanga.task_manager.dto.TaskSummaryResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractSmartHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a JSON list of task summaries by joining the cached fragments from
+ * {@link TaskJsonFragmentCache} straight into the response body. Registered ahead of the Jackson
+ * converter; other bodies, other formats and reads fall through to Jackson.
+ */
+@Component
+public class TaskSummaryJsonHttpMessageConverter extends AbstractSmartHttpMessageConverter<List<TaskSummaryResponse>> {
+
+    private final TaskJsonFragmentCache fragmentCache;
+
+    public TaskSummaryJsonHttpMessageConverter(TaskJsonFragmentCache fragmentCache) {
+        super(MediaType.APPLICATION_JSON);
+        this.fragmentCache = fragmentCache;
+    }
+
+    @Override
+    public boolean canRead(ResolvableType type, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType type, Class<?> valueClass, MediaType mediaType) {
+        return List.class.isAssignableFrom(valueClass)
+                && type.asCollection().resolveGeneric(0) == TaskSummaryResponse.class
+                && canWrite(mediaType);
+    }
+
+    @Override
+    public List<TaskSummaryResponse> read(ResolvableType type, HttpInputMessage inputMessage,
+                                          Map<String, Object> hints) {
+        throw new HttpMessageNotReadableException("Task summaries are not read by this converter", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(List<TaskSummaryResponse> tasks, ResolvableType type, HttpOutputMessage outputMessage,
+                                 Map<String, Object> hints) throws IOException {
+        byte[][] fragments = new byte[tasks.size()][];
+        long length = 2 + Math.max(0, tasks.size() - 1);
+        for (int i = 0; i < fragments.length; i++) {
+            fragments[i] = fragmentCache.getJson(tasks.get(i));
+            length += fragments[i].length;
+        }
+        // The length is known before the first byte, so it is sent instead of chunking
+        outputMessage.getHeaders().setContentLength(length);
+        OutputStream body = outputMessage.getBody();
+        body.write('[');
+        for (int i = 0; i < fragments.length; i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            body.write(fragments[i]);
+        }
+        body.write(']');
+    }
+}
@@ -0,0 +1,77 @@
+package com.callanga.task_manager.coalescing;
+
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.jdbc.ReadYourWrites;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lets concurrent calls to a {@link Coalesced} method with equal arguments share one execution,
+ * so a burst of identical reads (a deploy, an event stream reconnect storm) borrows one pooled
+ * connection instead of one per request. Ordered outside the transaction advice, like caching,
+ * so a caller that joins a running load never opens a transaction.
+ *
+ * <p>Every committed task write starts a new generation. The listener runs before the writing
+ * request returns, so a read issued after a write was acknowledged never shares an older load.
+ * Calls made inside a transaction always run on their own, since they may see uncommitted data.
+ * Calls pinned by {@link ReadYourWrites} only share with other pinned calls, so a client that has
+ * just written never gets a load that went to a lagging replica.
+ *
+ * <p>{@code task.read.calls} counts calls per method by {@code result}: {@code loaded} or
+ * {@code coalesced}; their ratio is the share of reads that were saved.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnProperty(name = "task.read.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadCoalescingAspect {
+
+    private record CallKey(Method method, List<Object> args, boolean pinned) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight<CallKey> singleFlight;
+
+    public ReadCoalescingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.singleFlight = new SingleFlight<>(this::record);
+    }
+
+    @Around("@annotation(com.callanga.task_manager.coalescing.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return singleFlight.execute(new CallKey(method, Arrays.asList(joinPoint.getArgs()), ReadYourWrites.isPinned()), joinPoint::proceed);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        singleFlight.invalidate();
+    }
+
+    private void record(CallKey key, SingleFlight.Outcome outcome) {
+        Counter.builder("task.read.calls")
+                .description("Calls to coalesced reads, by whether they ran the read or shared one in flight")
+                .tags("class", key.method().getDeclaringClass().getSimpleName(),
+                        "method", key.method().getName(),
+                        "result", outcome == SingleFlight.Outcome.LOADED ? "loaded" : "coalesced")
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,88 @@
+package com.callanga.task_manager.coalescing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs at most one load per key at a time; callers arriving while it runs wait for it and get
+ * the same result or exception. Nothing is kept once the load finishes, so this is not a cache.
+ *
+ * <p>{@link #invalidate()} starts a new generation: loads already running finish for the callers
+ * waiting on them, but callers arriving afterwards start a fresh load. Invalidating after every
+ * committed write means a read that starts after the write never shares a load that began before it.
+ *
+ * @param <K> key type, compared with {@code equals}
+ */
+public class SingleFlight<K> {
+
+    /**
+     * The work behind a key; may throw anything the caller would.
+     */
+    @FunctionalInterface
+    public interface Load<V> {
+        V load() throws Throwable;
+    }
+
+    /**
+     * Whether a call ran the load itself or shared one already in flight.
+     */
+    public enum Outcome {
+        LOADED, COALESCED
+    }
+
+    @FunctionalInterface
+    public interface Listener<K> {
+        void onCall(K key, Outcome outcome);
+    }
+
+    private record Flight(long generation, CompletableFuture<Object> result) {
+    }
+
+    private final ConcurrentMap<K, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Listener<K> listener;
+
+    public SingleFlight(Listener<K> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Run the load for the key, or wait for the one of the current generation already running.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(K key, Load<V> load) throws Throwable {
+        Flight own = new Flight(generation.get(), new CompletableFuture<>());
+        // Join a flight only from this generation; an older one may predate a committed write
+        Flight flight = flights.compute(key, (k, current) ->
+                current != null && current.generation() == own.generation() ? current : own);
+        if (flight != own) {
+            listener.onCall(key, Outcome.COALESCED);
+            try {
+                return (V) flight.result().join();
+            } catch (CompletionException ex) {
+                throw ex.getCause();
+            }
+        }
+        listener.onCall(key, Outcome.LOADED);
+        try {
+            V value = load.load();
+            own.result().complete(value);
+            return value;
+        } catch (Throwable ex) {
+            own.result().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(key, own);
+        }
+    }
+
+    /**
+     * Stop sharing loads that are already running with callers that arrive from now on.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+}
@@ -0,0 +1,150 @@
+package com.callanga.task_manager.concurrency;
+
+import com.callanga.task_manager.exception.GlobalExceptionHandler;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps concurrent API requests with an {@link AdaptiveLimit} per budget, one for reads and one
+ * for writes, so a burst of one kind cannot starve the other. Both start at the connection pool
+ * size and adapt to measured latency. A request over its budget's limit is shed at once with 503
+ * and {@code Retry-After} rather than queued, so admitted requests keep their latency under
+ * overload instead of timing out waiting for a connection.
+ *
+ * <p>The event stream holds no connection and is not limited. A streamed export leaves its budget
+ * when the request thread hands off to the async writer.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final ObjectMapper objectMapper;
+    private final Budget reads;
+    private final Budget writes;
+
+    public AdaptiveConcurrencyLimitFilter(DataSource dataSource, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                          @Value("${task.concurrency.min-limit:2}") int minLimit,
+                                          @Value("${task.concurrency.read.max-limit:40}") int readMaxLimit,
+                                          @Value("${task.concurrency.write.max-limit:20}") int writeMaxLimit) {
+        this.objectMapper = objectMapper;
+        int poolSize = maximumPoolSize(dataSource);
+        this.reads = new Budget("read", new AdaptiveLimit(poolSize, minLimit, readMaxLimit), meterRegistry);
+        this.writes = new Budget("write", new AdaptiveLimit(poolSize, minLimit, writeMaxLimit), meterRegistry);
+        log.info("Limiting concurrent API requests adaptively: reads {}-{}, writes {}-{}, starting at {}",
+                minLimit, readMaxLimit, minLimit, writeMaxLimit, poolSize);
+    }
+
+    public int getReadLimit() {
+        return reads.limit.getLimit();
+    }
+
+    public int getWriteLimit() {
+        return writes.limit.getLimit();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/") || path.equals("/api/tasks/events");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Budget budget = isRead(request) ? reads : writes;
+        int inFlight = budget.inFlight.incrementAndGet();
+        if (inFlight > budget.limit.getLimit()) {
+            budget.inFlight.decrementAndGet();
+            budget.rejected.increment();
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            budget.inFlight.decrementAndGet();
+            long end = System.nanoTime();
+            // The exception handler answers 503 when no connection could be had in time
+            budget.limit.onSample(end, end - start, inFlight,
+                    response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || HttpMethod.OPTIONS.matches(method);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        GlobalExceptionHandler.ErrorResponse error = new GlobalExceptionHandler.ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Too many concurrent requests; retry shortly");
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ex) {
+            log.warn("Could not read the connection pool size, assuming {}", DEFAULT_POOL_SIZE, ex);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+
+    private static final class Budget {
+
+        private final AdaptiveLimit limit;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Counter rejected;
+
+        Budget(String name, AdaptiveLimit limit, MeterRegistry meterRegistry) {
+            this.limit = limit;
+            this.rejected = Counter.builder("task.concurrency.rejected")
+                    .description("API requests shed because their budget was at its limit")
+                    .tag("budget", name)
+                    .register(meterRegistry);
+            Gauge.builder("task.concurrency.in-flight", inFlight, AtomicInteger::get)
+                    .description("API requests admitted and not yet finished")
+                    .tag("budget", name)
+                    .register(meterRegistry);
+            Gauge.builder("task.concurrency.limit", limit, AdaptiveLimit::getLimit)
+                    .description("Current adaptive limit on concurrent API requests")
+                    .tag("budget", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.callanga.task_manager.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency limit that follows measured latency, after the gradient algorithm of Netflix's
+ * concurrency-limits (Gradient2). Latencies are averaged over short windows and compared with a
+ * long-term exponential average of those windows. A window well above the long-term average means
+ * requests are queueing (in practice, for a pooled connection) and shrinks the limit in
+ * proportion; a window within tolerance grows it by about its square root. An overload failure
+ * such as a connection timeout cuts it by a tenth at once.
+ *
+ * <p>The baseline is the average of the traffic itself rather than the fastest window ever seen,
+ * so a steady mix of cache hits and list queries does not read as queueing. A lasting shift in
+ * latency is absorbed into the average, which falls faster than it rises, so the limit recovers
+ * from the minimum once an overload passes. Windows in which fewer than half the permits were
+ * used only update the average. The maximum bounds the queue when latency creeps up slowly.
+ */
+public class AdaptiveLimit {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int WINDOW_SAMPLES = 20;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int LONG_WINDOWS = 100;
+    private static final double LONG_RTT_WEIGHT = 2.0 / (LONG_WINDOWS + 1);
+    private static final double TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+
+    private long windowStart;
+    private int samples;
+    private long rttSum;
+    private int maxInFlight;
+    private boolean dropped;
+
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Record a finished request.
+     *
+     * @param nowNanos    when it finished, from {@link System#nanoTime()}
+     * @param rttNanos    how long it took
+     * @param inFlight    requests in flight, itself included, when it was admitted
+     * @param overloaded  whether it failed because the server was overloaded
+     */
+    public synchronized void onSample(long nowNanos, long rttNanos, int inFlight, boolean overloaded) {
+        if (samples == 0) {
+            windowStart = nowNanos;
+        }
+        samples++;
+        rttSum += rttNanos;
+        maxInFlight = Math.max(maxInFlight, inFlight);
+        dropped |= overloaded;
+        if (samples >= WINDOW_SAMPLES && nowNanos - windowStart >= WINDOW_NANOS) {
+            update((double) rttSum / samples);
+            samples = 0;
+            rttSum = 0;
+            maxInFlight = 0;
+            dropped = false;
+        }
+    }
+
+    private void update(double rtt) {
+        if (dropped) {
+            setLimit(estimatedLimit * BACKOFF_RATIO);
+            return;
+        }
+        if (longRtt == 0) {
+            longRtt = rtt;
+            return;
+        }
+        longRtt += (rtt - longRtt) * LONG_RTT_WEIGHT;
+        // Latency is back far below the average, e.g. after an overload: let the average catch up
+        if (longRtt > 2 * rtt) {
+            longRtt *= 0.95;
+        }
+        if (maxInFlight * 2 < estimatedLimit) {
+            return;
+        }
+
+        double gradient = Math.clamp(TOLERANCE * longRtt / rtt, MIN_GRADIENT, 1.0);
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        setLimit(estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private void setLimit(double newLimit) {
+        estimatedLimit = Math.clamp(newLimit, minLimit, maxLimit);
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,97 @@
+package com.callanga.task_manager.config;
+
+import com.callanga.task_manager.jdbc.ReadYourWrites;
+import com.callanga.task_manager.repository.TaskRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.cache.autoconfigure.CacheManagerCustomizer;
+import org.springframework.boot.thread.Threading;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.concurrent.Executors;
+import java.util.function.ToLongFunction;
+
+/**
+ * Enables Spring's cache abstraction; caches themselves are configured under {@code spring.cache.*}.
+ * Cache advice is ordered outside the transaction advice so a cache hit never opens a
+ * transaction or borrows a pooled connection.
+ *
+ * <p>Hibernate's second-level cache is separate: its regions are configured in {@code application.conf}.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /**
+     * {@code TaskResponse} by task id.
+     */
+    public static final String TASKS_CACHE = "tasks";
+
+    /**
+     * On virtual threads, run cache loads in Caffeine's async mode on their own virtual threads.
+     * A synchronous miss runs the load inside {@code ConcurrentHashMap.compute}, whose bin lock
+     * would pin the carrier thread for the whole database query. The executor carries the
+     * {@link ReadYourWrites} pin over, so a load for a pinned request still reads the primary.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public CacheManagerCustomizer<CaffeineCacheManager> asyncCaffeineCustomizer(
+            @Value("${spring.cache.caffeine.spec:}") String spec) {
+        return cacheManager -> {
+            cacheManager.setCaffeine(Caffeine.from(spec)
+                    .executor(ReadYourWrites.propagating(
+                            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cache-load-", 0).factory()))));
+            cacheManager.setAsyncCacheMode(true);
+        };
+    }
+
+    /**
+     * Hit, miss and put counts of the {@value TaskRepository#QUERY_CACHE_REGION} query cache region.
+     * Hibernate's own metrics break down entity regions but report the query cache only in total.
+     */
+    @Bean
+    public MeterBinder taskQueryCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String region = TaskRepository.QUERY_CACHE_REGION;
+        return registry -> {
+            queryRegionCounter("hibernate.cache.query.region.requests", statistics, region,
+                    CacheRegionStatistics::getHitCount)
+                    .description("Cached query results found in the region")
+                    .tag("result", "hit")
+                    .register(registry);
+            queryRegionCounter("hibernate.cache.query.region.requests", statistics, region,
+                    CacheRegionStatistics::getMissCount)
+                    .description("Cached query results not found in the region")
+                    .tag("result", "miss")
+                    .register(registry);
+            queryRegionCounter("hibernate.cache.query.region.puts", statistics, region,
+                    CacheRegionStatistics::getPutCount)
+                    .description("Query results put in the region")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * The region's statistics only exist once a query has used it; until then the count is 0.
+     */
+    private static FunctionCounter.Builder<Statistics> queryRegionCounter(String name, Statistics statistics,
+                                                                          String region,
+                                                                          ToLongFunction<CacheRegionStatistics> count) {
+        return FunctionCounter.builder(name, statistics, stats -> {
+                    CacheRegionStatistics regionStats = stats.getQueryRegionStatistics(region);
+                    return regionStats == null ? 0 : count.applyAsLong(regionStats);
+                })
+                .tag("region", region);
+    }
+}
@@ -5,6 +5,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/**
+ * CORS for the API. Cross-origin scripts can only read the response headers listed here, so the
+ * ETag a client sends back in {@code If-Match} and the timing and back-off headers are exposed.
+ */
 @Configuration
 public class CorsConfig implements WebMvcConfigurer {
 
@@ -17,6 +21,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins(allowedOrigins.split(","))
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "Server-Timing", "Retry-After")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
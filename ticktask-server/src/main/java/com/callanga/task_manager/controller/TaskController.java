@@ -1,25 +1,56 @@
 package com.callanga.task_manager.controller;
 
+import com.callanga.task_manager.dto.TaskBatchOperation;
+import com.callanga.task_manager.dto.TaskBatchResponse;
+import com.callanga.task_manager.dto.TaskChangesResponse;
+import com.callanga.task_manager.dto.TaskField;
+import com.callanga.task_manager.dto.TaskPageResponse;
+import com.callanga.task_manager.dto.TaskQuery;
 import com.callanga.task_manager.dto.TaskRequest;
 import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSliceResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
+import com.callanga.task_manager.event.TaskEventBroadcaster;
+import com.callanga.task_manager.exception.InvalidTaskPatchException;
+import com.callanga.task_manager.service.TaskBatchService;
+import com.callanga.task_manager.service.TaskChangeService;
+import com.callanga.task_manager.service.TaskExportFormat;
+import com.callanga.task_manager.service.TaskExportService;
 import com.callanga.task_manager.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * REST Controller for Task CRUD operations.
+ * Bodies are JSON unless the client asks for {@code application/cbor} or
+ * {@code application/x-jackson-smile}; cacheable reads therefore vary by {@code Accept}.
  */
+@Slf4j
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+    private final TaskExportService taskExportService;
+    private final TaskChangeService taskChangeService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
 
     /**
      * Create a new task.
@@ -28,28 +59,201 @@ public class TaskController {
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request) {
         TaskResponse response = taskService.createTask(request);
-        System.out.println(response);
+        log.atInfo()
+                .setMessage("Task created")
+                .addKeyValue("taskId", response.getId())
+                .addKeyValue("status", response.getStatus())
+                .addKeyValue("priority", response.getPriority())
+                .log();
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
-     * Get all tasks.
+     * Create, update and delete many tasks in one transaction.
+     * POST /api/tasks/batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> executeBatch(@RequestBody List<TaskBatchOperation> operations) {
+        TaskBatchResponse response = taskBatchService.execute(operations);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get task summaries, capped at {@link TaskService#MAX_LIST_SIZE}.
+     * A matching If-None-Match gets 304 after a single aggregate query, without loading tasks.
      * GET /api/tasks
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        List<TaskResponse> tasks = taskService.getAllTasks();
+    public ResponseEntity<List<TaskSummaryResponse>> getAllTasks(WebRequest request) {
+        // Stamp before loading: a change in between yields a newer body under the older tag,
+        // which the next poll simply refetches, never a stale body under a fresh tag
+        String etag = listETag();
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        List<TaskSummaryResponse> tasks = taskService.getAllTasks();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(tasks);
+    }
+
+    /**
+     * Get only the requested fields of each task; the other columns are not selected.
+     * GET /api/tasks?fields=id,title,status
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllTaskFields(@RequestParam String fields,
+                                                                      WebRequest request) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        // The stamp tags every representation of the list; caches key them apart by URL
+        String etag = listETag();
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        List<Map<String, Object>> tasks = taskService.getAllTasks(selected);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(tasks);
+    }
+
+    /**
+     * Get a page of tasks using keyset pagination.
+     * GET /api/tasks/page?cursor={cursor}&limit={limit}
+     */
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageResponse<TaskSummaryResponse>> getTaskPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TaskPageResponse<TaskSummaryResponse> page = taskService.getTaskPage(cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Get a page with only the requested fields of each task.
+     * GET /api/tasks/page?fields=id,title&cursor={cursor}&limit={limit}
+     */
+    @GetMapping(value = "/page", params = "fields")
+    public ResponseEntity<TaskPageResponse<Map<String, Object>>> getTaskPageFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TaskPageResponse<Map<String, Object>> page = taskService.getTaskPage(cursor, limit, TaskField.parse(fields));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Tasks changed and deleted since a sync token; omit the token for an initial full sync.
+     * GET /api/tasks/changes?since={token}&limit={limit}
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        TaskChangesResponse changes = taskChangeService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Live feed of created, updated and deleted events; EventSource reconnects resume from Last-Event-ID.
+     * GET /api/tasks/events
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = taskEventBroadcaster.subscribe(lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    /**
+     * Filter, search and sort tasks.
+     * GET /api/tasks/query?status=TODO&status=IN_PROGRESS&priority=HIGH&dueFrom=2025-01-01&dueTo=2025-01-31
+     *     &title=report&sort=dueDate,asc&page=0&size=50
+     */
+    @GetMapping("/query")
+    public ResponseEntity<TaskSliceResponse<TaskResponse>> queryTasks(@ModelAttribute TaskQuery query) {
+        TaskSliceResponse<TaskResponse> result = taskService.queryTasks(query);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Filter, search and sort tasks, returning only the requested fields.
+     * GET /api/tasks/query?fields=id,title,dueDate&status=TODO&sort=dueDate,asc
+     */
+    @GetMapping(value = "/query", params = "fields")
+    public ResponseEntity<TaskSliceResponse<Map<String, Object>>> queryTaskFields(
+            @RequestParam String fields,
+            @ModelAttribute TaskQuery query) {
+        TaskSliceResponse<Map<String, Object>> result = taskService.queryTasks(query, TaskField.parse(fields));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Stream every task as NDJSON or CSV with constant memory.
+     * GET /api/tasks/export?format=ndjson|csv
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportFormat exportFormat = TaskExportFormat.from(format);
+        StreamingResponseBody body = out -> taskExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Full-text search over task titles and descriptions, most relevant first.
+     * GET /api/tasks/search?q={text}&limit={limit}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponse>> searchTasks(
+            @RequestParam("q") String text,
+            @RequestParam(required = false) Integer limit) {
+        List<TaskResponse> tasks = taskService.searchTasks(text, limit);
         return ResponseEntity.ok(tasks);
     }
 
     /**
-     * Get a task by ID.
+     * Get a task by ID. The weak ETag is the task's version; a matching If-None-Match gets 304.
      * GET /api/tasks/{id}
      */
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponse> getTask(@PathVariable Long id) {
         TaskResponse response = taskService.getTask(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(versionETag(response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response);
+    }
+
+    /**
+     * Get only the requested fields of a task. Served from the task cache like {@link #getTask},
+     * so narrowing saves response bytes rather than a query.
+     * GET /api/tasks/{id}?fields=id,title,status
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getTaskFields(@PathVariable Long id, @RequestParam String fields) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        TaskResponse response = taskService.getTask(id);
+        return ResponseEntity.ok()
+                .eTag(versionETag(response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(TaskField.project(response, selected));
     }
 
     /**
@@ -64,6 +268,22 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Partially update a task with a JSON Merge Patch; only the fields sent are written.
+     * An If-Match ETag from a previous read makes the write conditional: 409 if the task has changed since.
+     * PATCH /api/tasks/{id}
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponse> patchTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Map<String, Object> patch) {
+        TaskResponse response = taskService.patchTask(id, patch, parseVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(versionETag(response.getVersion()))
+                .body(response);
+    }
+
     /**
      * Delete a task.
      * DELETE /api/tasks/{id}
@@ -73,4 +293,45 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Task version named by an If-Match header, or {@code null} when absent or {@code *}.
+     */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException ex) {
+            throw new InvalidTaskPatchException(Map.of(HttpHeaders.IF_MATCH, "must be an ETag returned for this task"));
+        }
+    }
+
+    /**
+     * A task version as a weak ETag, like {@link #listETag}: it names the content, not the bytes.
+     */
+    private static String versionETag(Long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * The list stamp as a weak ETag: it names the content, not the bytes, which differ by
+     * {@code Accept} and encoding; Tomcat will not gzip a response carrying a strong ETag.
+     */
+    private String listETag() {
+        return "W/\"" + taskService.getTaskListETag() + "\"";
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
 }
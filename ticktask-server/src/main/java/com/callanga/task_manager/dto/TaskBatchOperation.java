@@ -0,0 +1,27 @@
+package com.callanga.task_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One operation inside a bulk request to {@code POST /api/tasks/batch}.
+ * CREATE needs {@code task}; UPDATE needs {@code id} and {@code task}; DELETE needs {@code id}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchOperation {
+
+    public enum Type {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    private Type op;
+    private Long id;
+    private TaskRequest task;
+}
@@ -0,0 +1,22 @@
+package com.callanga.task_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk request: one result per operation plus totals.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchResponse {
+
+    private List<TaskBatchResult> results;
+    private int succeeded;
+    private int failed;
+}
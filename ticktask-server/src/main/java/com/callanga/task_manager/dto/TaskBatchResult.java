@@ -0,0 +1,28 @@
+package com.callanga.task_manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Outcome of one operation of a bulk request, reported at the same index as the operation.
+ * {@code status} is the HTTP status the equivalent single-item call would have returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchResult {
+
+    private int index;
+    private TaskBatchOperation.Type op;
+    private Long id;
+    private int status;
+    private TaskResponse task;
+    private Map<String, String> errors;
+}
@@ -0,0 +1,39 @@
+package com.callanga.task_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a delta sync: tasks changed and tasks deleted since the client's token.
+ * Applying a response is idempotent, so a change may be delivered more than once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskChangesResponse {
+
+    /**
+     * Tasks created or updated since the token, oldest change first.
+     */
+    private List<TaskResponse> updated;
+
+    /**
+     * Ids of tasks deleted since the token.
+     */
+    private List<Long> deleted;
+
+    /**
+     * Token to send as {@code since} on the next sync.
+     */
+    private String nextToken;
+
+    /**
+     * Whether more changes are pending; if so, sync again right away with {@link #nextToken}.
+     */
+    private boolean hasMore;
+}
@@ -0,0 +1,79 @@
+package com.callanga.task_manager.dto;
+
+import com.callanga.task_manager.exception.InvalidTaskQueryException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Task property that can be requested with the {@code fields} query parameter. The property name
+ * is both the JSON name and the {@code Task} entity attribute, so a selection maps straight onto
+ * the columns of a projection query.
+ */
+public enum TaskField {
+
+    ID("id", TaskResponse::getId),
+    TITLE("title", TaskResponse::getTitle),
+    DESCRIPTION("description", TaskResponse::getDescription),
+    STATUS("status", TaskResponse::getStatus),
+    PRIORITY("priority", TaskResponse::getPriority),
+    DUE_DATE("dueDate", TaskResponse::getDueDate),
+    CREATED_AT("createdAt", TaskResponse::getCreatedAt),
+    UPDATED_AT("updatedAt", TaskResponse::getUpdatedAt),
+    VERSION("version", TaskResponse::getVersion);
+
+    private static final Map<String, TaskField> BY_PROPERTY = Arrays.stream(values())
+            .collect(Collectors.toMap(TaskField::getProperty, Function.identity()));
+
+    private final String property;
+    private final Function<TaskResponse, Object> accessor;
+
+    TaskField(String property, Function<TaskResponse, Object> accessor) {
+        this.property = property;
+        this.accessor = accessor;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parse a comma-separated list such as {@code id,title,status}.
+     * The result iterates in declaration order whatever order the names were given in.
+     */
+    public static Set<TaskField> parse(String fields) {
+        EnumSet<TaskField> selected = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            TaskField field = BY_PROPERTY.get(trimmed);
+            if (field == null) {
+                throw new InvalidTaskQueryException(
+                        "Unknown field '" + trimmed + "'; available fields are " + BY_PROPERTY.keySet());
+            }
+            selected.add(field);
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidTaskQueryException("fields must name at least one of " + BY_PROPERTY.keySet());
+        }
+        return selected;
+    }
+
+    /**
+     * The selected properties of a task, in declaration order, for serialization as a JSON object.
+     */
+    public static Map<String, Object> project(TaskResponse task, Set<TaskField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            values.put(field.property, field.accessor.apply(task));
+        }
+        return values;
+    }
+}
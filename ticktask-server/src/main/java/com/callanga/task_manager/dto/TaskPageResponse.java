@@ -0,0 +1,28 @@
+package com.callanga.task_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of a keyset-paginated task listing.
+ * Items are task summaries, or property maps when a sparse fieldset was requested.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPageResponse<T> {
+
+    private List<T> items;
+
+    /**
+     * Opaque cursor for the next page, or {@code null} when this is the last page.
+     */
+    private String nextCursor;
+
+    private int limit;
+}
@@ -0,0 +1,44 @@
+package com.callanga.task_manager.dto;
+
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Query parameters for filtering, searching and sorting tasks on the server.
+ * Every criterion is optional; the ones that are present are combined with AND.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskQuery {
+
+    private Set<TaskStatus> status;
+
+    private Set<Priority> priority;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    private String title;
+
+    /**
+     * Sort in {@code property[,asc|desc]} form, e.g. {@code dueDate,desc}.
+     */
+    private String sort;
+
+    private Integer page;
+
+    private Integer size;
+}
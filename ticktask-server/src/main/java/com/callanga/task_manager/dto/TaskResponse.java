@@ -28,6 +28,7 @@ public class TaskResponse {
     private LocalDate dueDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     /**
      * Factory method to create TaskResponse from Task entity.
@@ -42,6 +43,7 @@ public class TaskResponse {
                 .dueDate(task.getDueDate())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,25 @@
+package com.callanga.task_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for one slice of a filtered task query.
+ * Carries {@code hasNext} instead of a total count so no COUNT query is needed.
+ * Items are full tasks, or property maps when a sparse fieldset was requested.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSliceResponse<T> {
+
+    private List<T> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
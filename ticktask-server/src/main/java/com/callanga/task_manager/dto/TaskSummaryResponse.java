@@ -0,0 +1,63 @@
+package com.callanga.task_manager.dto;
+
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.repository.TaskSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a task in a list. Carries a description preview instead of the full text,
+ * which is only returned by {@code GET /api/tasks/{id}}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSummaryResponse {
+
+    private Long id;
+    private String title;
+
+    /**
+     * First {@link TaskSummary#DESCRIPTION_PREVIEW_LENGTH} characters of the description.
+     */
+    private String descriptionPreview;
+
+    /**
+     * Whether the description continues past the preview.
+     */
+    private boolean descriptionTruncated;
+
+    private TaskStatus status;
+    private Priority priority;
+    private LocalDate dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    /**
+     * Factory method to create TaskSummaryResponse from a list projection row.
+     */
+    public static TaskSummaryResponse fromSummary(TaskSummary summary) {
+        String head = summary.descriptionHead();
+        boolean truncated = head != null && head.length() > TaskSummary.DESCRIPTION_PREVIEW_LENGTH;
+        return TaskSummaryResponse.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .descriptionPreview(truncated ? head.substring(0, TaskSummary.DESCRIPTION_PREVIEW_LENGTH) : head)
+                .descriptionTruncated(truncated)
+                .status(summary.status())
+                .priority(summary.priority())
+                .dueDate(summary.dueDate())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .version(summary.version())
+                .build();
+    }
+}
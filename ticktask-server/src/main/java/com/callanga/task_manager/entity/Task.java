@@ -5,23 +5,39 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * JPA Entity representing a Task in the task manager system.
+ * The table and its indexes are created by the Flyway migrations in {@code db/migration}.
+ * Cached in the second-level {@value #CACHE_REGION} region, so lookups by id in a new session
+ * skip the database until the row changes.
  */
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Task {
 
+    public static final String CACHE_REGION = "task";
+
+    /**
+     * Sequence-generated so Hibernate can batch inserts; IDENTITY forces one INSERT round trip per row.
+     * Ids are reserved in blocks of {@code allocationSize} by the pooled optimizer.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -49,14 +65,31 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic-lock version, incremented on every update; exposed to clients as the task's ETag.
+     * Defaults to 0 so the column can be added to a populated table.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = currentTimestamp();
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = currentTimestamp();
+    }
+
+    /**
+     * Current time at the microsecond precision the database stores, so a response built
+     * before commit matches the row read back later.
+     */
+    public static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,32 @@
+package com.callanga.task_manager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a hard-deleted task, kept so delta-sync clients learn about the deletion.
+ * Pruned once older than the configured retention.
+ */
+@Entity
+@Table(name = "task_tombstones")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTombstone {
+
+    /**
+     * Id of the deleted task; task ids come from a sequence and are never reused.
+     */
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,39 @@
+package com.callanga.task_manager.event;
+
+import com.callanga.task_manager.dto.TaskResponse;
+import lombok.Value;
+
+/**
+ * Application event published by the service layer whenever a task is created, updated or deleted.
+ * Listeners that mirror task state should use {@code @TransactionalEventListener} so they only
+ * observe committed changes.
+ */
+@Value
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    Type type;
+    Long taskId;
+
+    /**
+     * State of the task after the change, or {@code null} for deletions.
+     */
+    TaskResponse task;
+
+    public static TaskChangedEvent created(TaskResponse task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), task);
+    }
+
+    public static TaskChangedEvent updated(TaskResponse task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), task);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId) {
+        return new TaskChangedEvent(Type.DELETED, taskId, null);
+    }
+}
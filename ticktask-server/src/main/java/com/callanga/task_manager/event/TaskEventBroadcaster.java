@@ -0,0 +1,269 @@
+package com.callanga.task_manager.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed {@link TaskChangedEvent}s out to Server-Sent Event subscribers.
+ *
+ * <p>Each event is serialized once and offered to every subscriber's bounded queue; the commit
+ * thread never touches a socket. Queues drain on virtual threads, so a slow connection only
+ * blocks its own drain. A subscriber whose queue overflows is dropped and resumes from the replay
+ * buffer when its EventSource reconnects with {@code Last-Event-ID}.
+ *
+ * <p>Event ids are {@code <epoch>-<sequence>}, where the epoch identifies this process. An id from
+ * another epoch, or one older than the replay buffer, gets a {@code resync} event instead.
+ */
+@Slf4j
+@Component
+public class TaskEventBroadcaster {
+
+    public static final String RESYNC_EVENT = "resync";
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int replaySize;
+    private final Duration timeout;
+    private final int maxSubscribers;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter dropped;
+
+    /**
+     * Guards the replay buffer and the sequence, so a new subscriber's replay and its first
+     * live event never overlap or leave a gap.
+     */
+    private final Object publishLock = new Object();
+    private final ArrayDeque<Frame> replay;
+    private long sequence;
+
+    public TaskEventBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                @Value("${task.events.buffer-size:256}") int bufferSize,
+                                @Value("${task.events.replay-size:1024}") int replaySize,
+                                @Value("${task.events.timeout:30m}") Duration timeout,
+                                @Value("${task.events.max-subscribers:10000}") int maxSubscribers) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.replay = new ArrayDeque<>(replaySize);
+        this.dropped = Counter.builder("task.events.dropped")
+                .description("SSE subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        Gauge.builder("task.events.subscribers", subscribers, Set::size)
+                .description("Connected SSE subscribers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream, first replaying anything after {@code lastEventId} that is still buffered.
+     *
+     * @return the emitter, or {@code null} when the subscriber limit is reached
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(createEmitter(timeout.toMillis()));
+        synchronized (publishLock) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replayAfter(subscriber, lastEventId.trim());
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        String data = objectMapper.writeValueAsString(event);
+        String name = event.getType().name().toLowerCase(Locale.ROOT);
+        synchronized (publishLock) {
+            Frame frame = new Frame(epoch + "-" + (++sequence), name, data);
+            if (replay.size() == replaySize) {
+                replay.pollFirst();
+            }
+            replay.addLast(frame);
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * Comment line to every subscriber so proxies keep idle connections open and dead ones surface.
+     */
+    @Scheduled(fixedRateString = "${task.events.heartbeat:15s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(Frame.HEARTBEAT);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Close every stream when shutdown begins; open streams would otherwise hold graceful
+     * shutdown until its timeout.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    /**
+     * Factory for subscriber emitters; overridden in tests to capture what is sent.
+     */
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void replayAfter(Subscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        Frame oldest = replay.peekFirst();
+        long oldestSequence = oldest == null ? sequence + 1 : parseSequence(oldest.id());
+        // Resume only if nothing after the client's last event was evicted and the backlog fits its queue
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence < oldestSequence - 1
+                || sequence - lastSequence > bufferSize) {
+            subscriber.offer(new Frame(null, RESYNC_EVENT, "{}"));
+            return;
+        }
+        for (Frame frame : replay) {
+            if (parseSequence(frame.id()) > lastSequence) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * Sequence number of an id minted by this process, or -1 for a foreign or malformed id.
+     */
+    private long parseSequence(String id) {
+        int separator = id.lastIndexOf('-');
+        if (separator < 0 || !id.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * One SSE message; {@link #HEARTBEAT} is sent as a comment.
+     */
+    private record Frame(String id, String name, String data) {
+
+        static final Frame HEARTBEAT = new Frame(null, null, null);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(error -> close());
+        }
+
+        void offer(Frame frame) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                if (frame == Frame.HEARTBEAT) {
+                    return;
+                }
+                dropped.increment();
+                log.debug("Dropping SSE subscriber that fell {} events behind", bufferSize);
+                close();
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    send(frame);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away; release the async request instead of waiting for the timeout
+                close();
+                emitter.completeWithError(ex);
+            } finally {
+                draining.set(false);
+            }
+            // A frame offered after the last poll but before the flag was cleared
+            if (!closed) {
+                schedule();
+            }
+        }
+
+        private void send(Frame frame) throws IOException {
+            if (frame == Frame.HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment(""));
+                return;
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (frame.id() != null) {
+                event.id(frame.id());
+            }
+            emitter.send(event.name(frame.name()).data(frame.data()));
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            remove(this);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.callanga.task_manager.exception;
+
+/**
+ * Exception thrown when a delta-sync token predates the retained tombstones,
+ * so deletions may have been missed and the client must resync from scratch.
+ */
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    public ChangeTokenExpiredException() {
+        super("Change token has expired; resync without a token");
+    }
+}
@@ -0,0 +1,12 @@
+package com.callanga.task_manager.exception;
+
+/**
+ * Exception thrown when a bulk request as a whole is unacceptable, e.g. empty or too large.
+ * Problems with individual operations are reported per item instead.
+ */
+public class InvalidBatchRequestException extends RuntimeException {
+
+    public InvalidBatchRequestException(String message) {
+        super(message);
+    }
+}
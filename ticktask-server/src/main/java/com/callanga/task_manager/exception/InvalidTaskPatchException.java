@@ -0,0 +1,21 @@
+package com.callanga.task_manager.exception;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a merge patch names unknown fields or carries invalid values.
+ * Carries one message per offending field, like bean validation of a full request.
+ */
+public class InvalidTaskPatchException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public InvalidTaskPatchException(Map<String, String> errors) {
+        super("Invalid patch: " + errors);
+        this.errors = Map.copyOf(errors);
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
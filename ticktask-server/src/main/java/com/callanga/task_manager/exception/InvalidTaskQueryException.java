@@ -0,0 +1,11 @@
+package com.callanga.task_manager.exception;
+
+/**
+ * Exception thrown when task query parameters are malformed or unsupported.
+ */
+public class InvalidTaskQueryException extends RuntimeException {
+
+    public InvalidTaskQueryException(String message) {
+        super(message);
+    }
+}
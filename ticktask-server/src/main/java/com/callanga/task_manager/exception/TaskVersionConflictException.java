@@ -0,0 +1,21 @@
+package com.callanga.task_manager.exception;
+
+/**
+ * Exception thrown when a conditional write targets a task version that is no longer current.
+ */
+public class TaskVersionConflictException extends RuntimeException {
+
+    private final long currentVersion;
+
+    public TaskVersionConflictException(Long id, Long expectedVersion, long currentVersion) {
+        super(expectedVersion == null
+                ? "Task " + id + " was modified concurrently; current version is " + currentVersion
+                : "Task " + id + " was modified concurrently: expected version " + expectedVersion
+                        + " but found " + currentVersion);
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,78 @@
+package com.callanga.task_manager.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Routes read-only transactions to the {@link ReplicaPool} and everything else to the primary.
+ * The application DataSource is wrapped in a {@link LazyConnectionDataSourceProxy}, which holds
+ * off fetching a physical connection until the first statement, by which time the transaction
+ * manager has marked the connection read-only or not.
+ *
+ * <p>Runs before the statement tracking wrapper, so statements on replicas are counted too.
+ */
+@Component
+@ConditionalOnExpression("'${task.datasource.replicas.urls:}' != ''")
+public class ReadReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<ReplicaPool> replicaPool;
+
+    public ReadReplicaRoutingPostProcessor(ObjectProvider<ReplicaPool> replicaPool) {
+        this.replicaPool = replicaPool;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource primary && !(bean instanceof RoutingDataSource)) {
+            return new RoutingDataSource(primary, new ReadOnlyDataSource(primary, replicaPool));
+        }
+        return bean;
+    }
+
+    private static final class RoutingDataSource extends LazyConnectionDataSourceProxy {
+
+        RoutingDataSource(DataSource primary, DataSource readOnly) {
+            super(primary);
+            setReadOnlyDataSource(readOnly);
+        }
+    }
+
+    /**
+     * Resolves the replica pool on first use, since post-processors are created before it.
+     */
+    private static final class ReadOnlyDataSource extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final ObjectProvider<ReplicaPool> replicaPool;
+
+        ReadOnlyDataSource(DataSource primary, ObjectProvider<ReplicaPool> replicaPool) {
+            this.primary = primary;
+            this.replicaPool = replicaPool;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return replicaPool.getObject().getReadOnlyConnection(primary);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+        }
+    }
+}
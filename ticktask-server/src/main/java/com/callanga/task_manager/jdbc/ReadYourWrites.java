@@ -0,0 +1,69 @@
+package com.callanga.task_manager.jdbc;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Per-thread override that sends read-only transactions to the primary instead of a replica,
+ * for a client that has just written and must see its own changes despite replication lag.
+ *
+ * <p>The pin lives on the request thread; work handed to another thread carries it only
+ * through {@link #propagating(Executor)}.
+ *
+ * @see ReadYourWritesFilter
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * Runs {@code call} pinned to the primary, restoring the previous state afterwards.
+     */
+    public static <V> V callPinned(Callable<V> call) throws Exception {
+        boolean wasPinned = isPinned();
+        pin();
+        try {
+            return call.call();
+        } finally {
+            if (!wasPinned) {
+                clear();
+            }
+        }
+    }
+
+    /**
+     * Executor that runs a task pinned when the thread submitting it is pinned, so a load
+     * started for a pinned request still reads the primary.
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> {
+            if (!isPinned()) {
+                executor.execute(task);
+                return;
+            }
+            executor.execute(() -> {
+                pin();
+                try {
+                    task.run();
+                } finally {
+                    clear();
+                }
+            });
+        };
+    }
+
+    static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,100 @@
+package com.callanga.task_manager.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Keeps a client on the primary for a short window after it writes, so it reads its own changes
+ * however far the replicas lag. A write request hands out a cookie holding the end of the window;
+ * requests carrying an unexpired cookie, and the write request itself, are pinned to the primary.
+ *
+ * <p>The window should cover the usual replication lag; a client that ignores cookies reads from
+ * the replicas right after its writes.
+ */
+@Component
+@ConditionalOnExpression("'${task.datasource.replicas.urls:}' != ''")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "TASK_RYW";
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(@Value("${task.datasource.read-your-writes:5s}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean pin = isPinned(request, now);
+        if (isWrite(request)) {
+            // Set before the chain runs, since the body may commit the response
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now + window.toMillis()))
+                    .path(request.getContextPath() + "/api")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            pin = true;
+        }
+        if (!pin) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean outer = !ReadYourWrites.isPinned();
+        ReadYourWrites.pin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (outer) {
+                ReadYourWrites.clear();
+            }
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> false;
+            default -> true;
+        };
+    }
+
+    private boolean isPinned(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    // A window longer than configured is not one this server handed out
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until <= now + window.toMillis();
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,162 @@
+package com.callanga.task_manager.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection pools for the read replicas, handed out round-robin to read-only transactions.
+ * A replica that fails to give a connection is ejected for a while and retried after; with every
+ * replica ejected, or while {@link ReadYourWrites} is pinned, reads go to the primary. A replica
+ * whose pool is only exhausted is skipped for that read but stays in rotation.
+ *
+ * <p>Replica pools start without waiting for their database, so a replica that is down at
+ * startup only shows up as an ejection on first use.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${task.datasource.replicas.urls:}' != ''")
+public class ReplicaPool implements MeterBinder, AutoCloseable {
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration ejectDuration;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+    private final LongAdder ejections = new LongAdder();
+
+    public ReplicaPool(@Value("${task.datasource.replicas.urls}") List<String> urls,
+                       @Value("${spring.datasource.username:}") String username,
+                       @Value("${spring.datasource.password:}") String password,
+                       @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+                       @Value("${task.datasource.replicas.pool-size:10}") int poolSize,
+                       @Value("${task.datasource.replicas.connection-timeout:2s}") Duration connectionTimeout,
+                       @Value("${task.datasource.replicas.eject-duration:30s}") Duration ejectDuration) {
+        this.ejectDuration = ejectDuration;
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            if (!driverClassName.isBlank()) {
+                config.setDriverClassName(driverClassName);
+            }
+            config.setMaximumPoolSize(poolSize);
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(new HikariDataSource(config)));
+        }
+        log.info("Routing read-only transactions to {} replica(s)", replicas.size());
+    }
+
+    /**
+     * Connection for a read-only transaction: from the next available replica, else the primary.
+     */
+    public Connection getReadOnlyConnection(DataSource primary) throws SQLException {
+        if (ReadYourWrites.isPinned()) {
+            pinnedReads.increment();
+            return primary.getConnection();
+        }
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (replica.isEjected()) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException ex) {
+                if (isPoolExhausted(ex)) {
+                    continue;
+                }
+                replica.eject(ejectDuration);
+                ejections.increment();
+                log.atWarn()
+                        .setMessage("Read replica ejected")
+                        .addKeyValue("pool", replica.dataSource.getPoolName())
+                        .addKeyValue("ejectFor", ejectDuration)
+                        .addKeyValue("error", ex.getMessage())
+                        .log();
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Hikari reports both an exhausted pool and an unreachable database as a timeout; only the
+     * latter carries the connection failure as its cause.
+     */
+    private static boolean isPoolExhausted(SQLException ex) {
+        return ex instanceof SQLTransientConnectionException && ex.getCause() == null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(registry);
+        replicas.forEach(replica -> replica.dataSource.setMetricsTrackerFactory(metrics));
+        readCounter(registry, "replica", replicaReads);
+        readCounter(registry, "read-your-writes", pinnedReads);
+        readCounter(registry, "fallback", fallbackReads);
+        FunctionCounter.builder("task.datasource.replica.ejections", ejections, LongAdder::sum)
+                .description("Times a read replica was taken out of rotation after failing to connect")
+                .register(registry);
+        Gauge.builder("task.datasource.replicas.available", this,
+                        pool -> pool.replicas.stream().filter(replica -> !replica.isEjected()).count())
+                .description("Read replicas currently in rotation")
+                .register(registry);
+    }
+
+    private static void readCounter(MeterRegistry registry, String route, LongAdder adder) {
+        FunctionCounter.builder("task.datasource.read-only.connections", adder, LongAdder::sum)
+                .description("Connections for read-only transactions, by where they were routed")
+                .tag("route", route)
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile long ejectedUntil = System.nanoTime();
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        boolean isEjected() {
+            return System.nanoTime() - ejectedUntil < 0;
+        }
+
+        void eject(Duration duration) {
+            ejectedUntil = System.nanoTime() + duration.toNanos();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.callanga.task_manager.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tallies the SQL statements and database time of each API request. The totals go out as a
+ * {@code Server-Timing} header, so they show in browser dev tools next to the request, and as
+ * per-endpoint metrics; requests over the statement budget, and statements repeated often
+ * enough to suggest an N+1 query, are logged.
+ *
+ * <p>The header is added when the body starts to be written, which for regular endpoints is
+ * after all database work. Work on other threads, such as a streamed export, is not counted.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.sql.tracking.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int repeatedStatementLimit;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${task.sql.budget.statements:10}") int statementBudget,
+                                    @Value("${task.sql.budget.repeated-statement:5}") int repeatedStatementLimit) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.repeatedStatementLimit = repeatedStatementLimit;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementTracker.begin();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, stats);
+        try {
+            chain.doFilter(request, timedResponse);
+        } finally {
+            SqlStatementTracker.end(stats);
+            timedResponse.addServerTiming();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("task.sql.statements")
+                .description("SQL statements executed per API request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getCount());
+        Timer.builder("task.sql.time")
+                .description("Time spent in the JDBC driver per API request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getDuration());
+
+        if (stats.getCount() > statementBudget) {
+            Counter.builder("task.sql.budget.exceeded")
+                    .description("API requests that executed more SQL statements than the budget")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.atWarn()
+                    .setMessage("SQL statement budget exceeded")
+                    .addKeyValue("method", method)
+                    .addKeyValue("uri", uri)
+                    .addKeyValue("statements", stats.getCount())
+                    .addKeyValue("budget", statementBudget)
+                    .addKeyValue("dbTimeMs", stats.getDuration().toMillis())
+                    .log();
+        }
+        for (Map.Entry<String, Integer> repeated : stats.getRepeated(repeatedStatementLimit).entrySet()) {
+            log.atWarn()
+                    .setMessage("SQL statement repeated within one request, possible N+1 query")
+                    .addKeyValue("method", method)
+                    .addKeyValue("uri", uri)
+                    .addKeyValue("executions", repeated.getValue())
+                    .addKeyValue("sql", repeated.getKey())
+                    .log();
+        }
+    }
+
+    /**
+     * Adds {@code Server-Timing} just before the response commits, since headers set after the
+     * body has been flushed are silently dropped.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void addServerTiming() {
+            if (added || isCommitted()) {
+                return;
+            }
+            added = true;
+            double millis = stats.getDuration().toNanos() / 1_000_000.0;
+            addHeader(SERVER_TIMING, String.format(Locale.ROOT, "db;desc=\"%d statements\";dur=%.2f",
+                    stats.getCount(), millis));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+    }
+}
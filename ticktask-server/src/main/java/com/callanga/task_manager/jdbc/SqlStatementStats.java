@@ -0,0 +1,64 @@
+package com.callanga.task_manager.jdbc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statements executed on one thread while a {@link SqlStatementTracker} scope was open,
+ * with the time spent inside the JDBC driver. Not thread-safe; a scope belongs to one thread.
+ */
+public final class SqlStatementStats {
+
+    private final SqlStatementStats parent;
+    private final List<String> statements = new ArrayList<>();
+    private long nanos;
+
+    SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    SqlStatementStats parent() {
+        return parent;
+    }
+
+    void add(String sql, long elapsedNanos) {
+        statements.add(sql);
+        nanos += elapsedNanos;
+    }
+
+    public int getCount() {
+        return statements.size();
+    }
+
+    public Duration getDuration() {
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * SQL of each execution in order; a JDBC batch counts as one.
+     */
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    /**
+     * Statements executed at least {@code threshold} times, with their counts, most frequent first.
+     * The same SQL over and over inside one request is the shape of an N+1 query.
+     */
+    public Map<String, Integer> getRepeated(int threshold) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String sql : statements) {
+            counts.merge(sql, 1, Integer::sum);
+        }
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+}
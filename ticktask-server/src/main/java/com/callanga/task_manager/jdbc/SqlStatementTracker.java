@@ -0,0 +1,56 @@
+package com.callanga.task_manager.jdbc;
+
+/**
+ * Thread-bound scopes that tally the SQL statements executed through the tracked DataSource.
+ *
+ * <p>Scopes nest: a statement counts towards every open scope on the thread, so a test can
+ * capture the statements of one request while the request filter tallies the same ones.
+ * Work handed to another thread (async exports, event listeners on executors) is not counted.
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * Open a scope on the current thread; pass the result to {@link #end} in a finally block.
+     */
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end(SqlStatementStats stats) {
+        if (stats.parent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats.parent());
+        }
+    }
+
+    /**
+     * Run the action in its own scope and return what it executed.
+     */
+    public static SqlStatementStats capture(Runnable action) {
+        SqlStatementStats stats = begin();
+        try {
+            action.run();
+        } finally {
+            end(stats);
+        }
+        return stats;
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent()) {
+            stats.add(sql, elapsedNanos);
+        }
+    }
+}
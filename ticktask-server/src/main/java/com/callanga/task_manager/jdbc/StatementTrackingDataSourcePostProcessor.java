@@ -0,0 +1,100 @@
+package com.callanga.task_manager.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the application DataSource so every statement execution is reported to
+ * {@link SqlStatementTracker}, whether it comes from Hibernate or a JDBC template. Wrapping at
+ * the JDBC layer rather than with a Hibernate {@code StatementInspector} also sees the native
+ * single-statement writes, and measures driver time rather than just counting SQL strings.
+ *
+ * <p>Outside a tracker scope a statement costs one extra proxy call and a thread-local read.
+ */
+@Component
+@ConditionalOnProperty(name = "task.sql.tracking.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementTrackingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TrackingDataSource)) {
+            return new TrackingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    private static final class TrackingDataSource extends DelegatingDataSource {
+
+        TrackingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection(), null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password), null);
+        }
+    }
+
+    /**
+     * Proxy a connection or statement; {@code sql} is the prepared SQL of a prepared statement.
+     */
+    private static <T> T proxy(Class<T> type, T target, String sql) {
+        return type.cast(Proxy.newProxyInstance(StatementTrackingDataSourcePostProcessor.class.getClassLoader(),
+                new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> target instanceof Connection
+                            ? invokeOnConnection(target, method, args)
+                            : invokeOnStatement(target, method, args, sql);
+                }));
+    }
+
+    private static Object invokeOnConnection(Object connection, Method method, Object[] args) throws Throwable {
+        Object result = invoke(connection, method, args);
+        return switch (method.getName()) {
+            case "prepareStatement" -> proxy(PreparedStatement.class, (PreparedStatement) result, (String) args[0]);
+            case "prepareCall" -> proxy(CallableStatement.class, (CallableStatement) result, (String) args[0]);
+            case "createStatement" -> proxy(Statement.class, (Statement) result, null);
+            default -> result;
+        };
+    }
+
+    private static Object invokeOnStatement(Object statement, Method method, Object[] args, String preparedSql)
+            throws Throwable {
+        if (!method.getName().startsWith("execute") || !SqlStatementTracker.isActive()) {
+            return invoke(statement, method, args);
+        }
+        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+        long start = System.nanoTime();
+        try {
+            return invoke(statement, method, args);
+        } finally {
+            SqlStatementTracker.record(sql != null ? sql : "<batch>", System.nanoTime() - start);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.dto.TaskField;
+import com.callanga.task_manager.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Task reads that select only some columns, for sparse fieldsets.
+ */
+public interface TaskFieldRepository {
+
+    /**
+     * Select the given fields of the matching tasks in one query, without loading entities.
+     * Each row maps property name to value in declaration order of {@link TaskField}.
+     */
+    List<Map<String, Object>> findFields(Set<TaskField> fields, Specification<Task> specification, Sort sort,
+                                         int offset, int limit);
+}
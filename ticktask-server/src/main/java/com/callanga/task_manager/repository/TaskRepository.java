@@ -3,29 +3,119 @@ package com.callanga.task_manager.repository;
 import com.callanga.task_manager.entity.Task;
 import com.callanga.task_manager.entity.TaskStatus;
 import com.callanga.task_manager.entity.Priority;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for Task entity.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom, TaskFieldRepository {
 
     /**
-     * Find all tasks with a specific status.
+     * Second-level cache region holding the ids returned by the cacheable finders. Every committed
+     * write to {@code tasks} invalidates it.
      */
+    String QUERY_CACHE_REGION = "task-queries";
+
+    String SUMMARY_SELECT = "SELECT new com.callanga.task_manager.repository.TaskSummary("
+            + "t.id, t.title, substring(t.description, 1, " + TaskSummary.DESCRIPTION_HEAD_LENGTH + "), "
+            + "t.status, t.priority, t.dueDate, t.createdAt, t.updatedAt, t.version) FROM Task t ";
+
+    /**
+     * Find all tasks with a specific status; the result is query-cached.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<Task> findByStatus(TaskStatus status);
 
     /**
-     * Find all tasks with a specific priority.
+     * Find all tasks with a specific priority; the result is query-cached.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<Task> findByPriority(Priority priority);
 
     /**
      * Find all tasks containing the given title (case-insensitive).
      */
     List<Task> findByTitleContainingIgnoreCase(String title);
+
+    /**
+     * First page of tasks in {@code (createdAt, id)} order.
+     */
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findFirstPage(Limit limit);
+
+    /**
+     * Page of tasks strictly after the given keyset position in {@code (createdAt, id)} order.
+     * Seeks through the {@code idx_tasks_created_at_id} index instead of skipping rows with OFFSET;
+     * the redundant {@code createdAt >=} bound is what the planner seeks on, as it cannot seek an OR.
+     */
+    @Query("SELECT t FROM Task t WHERE t.createdAt >= :createdAt "
+            + "AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id)) "
+            + "ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * First page of task summaries in {@code (createdAt, id)} order, without the full description.
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskSummary> findFirstSummaryPage(Limit limit);
+
+    /**
+     * Page of task summaries strictly after the given keyset position, as {@link #findPageAfter}.
+     */
+    @Query(SUMMARY_SELECT + "WHERE t.createdAt >= :createdAt "
+            + "AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id)) "
+            + "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                           Limit limit);
+
+    /**
+     * Tasks created or updated strictly after the given {@code (updatedAt, id)} position, oldest
+     * change first. Seeks through the {@code idx_tasks_updated_at_id} index.
+     */
+    @Query("SELECT t FROM Task t WHERE (t.updatedAt, t.id) > (:since, :afterId) ORDER BY t.updatedAt ASC, t.id ASC")
+    List<Task> findUpdatedAfter(@Param("since") LocalDateTime since, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Counter that every committed task write moves, read by primary key from {@code task_list_version}.
+     */
+    @Query(value = "SELECT version FROM task_list_version WHERE id = 1", nativeQuery = true)
+    long findListVersion();
+
+    /**
+     * Current version of a task, without loading the rest of the row.
+     */
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Stream every task in id order through a server-side cursor.
+     * Must be consumed inside a transaction; PostgreSQL only honours the fetch size with autocommit off.
+     */
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamAll();
 }
@@ -0,0 +1,46 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Task writes that Spring Data cannot express as a single statement.
+ * Each task write evicts the written task from the second-level cache, which it bypasses.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Overwrite a task's content in one UPDATE and return the row as stored, without loading it
+     * first. A {@code null} status or priority in {@code values} keeps the current value.
+     * Version and {@code updatedAt} only move if some column actually changed.
+     *
+     * @return the updated task, or empty if no task has the given id
+     */
+    Optional<Task> replaceContent(Long id, Task values, LocalDateTime updatedAt);
+
+    /**
+     * Write only the given properties of a task in one UPDATE and return the row as stored.
+     * Keys are entity property names ({@code title}, {@code description}, {@code status},
+     * {@code priority}, {@code dueDate}); a {@code null} value clears the column. With an
+     * {@code expectedVersion} the row is only written while it is still at that version.
+     *
+     * @return the updated task, or empty if no task has the id or it is at another version
+     */
+    Optional<Task> patchContent(Long id, Map<String, Object> changes, Long expectedVersion, LocalDateTime updatedAt);
+
+    /**
+     * Delete a task in one statement, without loading it first.
+     *
+     * @return the number of rows deleted, 0 if no task has the given id
+     */
+    int deleteTaskById(Long id);
+
+    /**
+     * Move the counter behind {@link TaskRepository#findListVersion()}. The row stays locked
+     * until the transaction ends, so call it once per transaction, as late as possible.
+     */
+    void incrementListVersion();
+}
@@ -0,0 +1,221 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.TransactionCompletionCallbacks.AfterCompletionCallback;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Single-statement task writes over plain JDBC, joining the surrounding JPA transaction.
+ * PostgreSQL returns the updated row with {@code UPDATE ... RETURNING}, H2 with
+ * {@code SELECT ... FROM FINAL TABLE (UPDATE ...)}; other databases fall back to a re-read.
+ *
+ * <p>Hibernate does not see these statements, so each one invalidates the written task in the
+ * second-level cache the way Hibernate does for its own writes, and only that task: a JPQL bulk
+ * statement would instead clear the whole entity region.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String COLUMNS = "id, title, description, status, priority, due_date, created_at, updated_at, version";
+
+    /**
+     * True when the new values differ from the stored row; column references read the old row.
+     */
+    private static final String CHANGED = """
+            (title IS DISTINCT FROM :title
+                OR description IS DISTINCT FROM :description
+                OR status IS DISTINCT FROM COALESCE(:status, status)
+                OR priority IS DISTINCT FROM COALESCE(:priority, priority)
+                OR due_date IS DISTINCT FROM :dueDate)""";
+
+    private static final String UPDATE_SQL = "UPDATE tasks SET "
+            + "version = CASE WHEN " + CHANGED + " THEN version + 1 ELSE version END, "
+            + "updated_at = CASE WHEN " + CHANGED + " THEN :updatedAt ELSE updated_at END, "
+            + String.join(", ",
+                    assignIfChanged("title", ":title"),
+                    assignIfChanged("description", ":description"),
+                    assignIfChanged("status", "COALESCE(:status, status)"),
+                    assignIfChanged("priority", "COALESCE(:priority, priority)"),
+                    assignIfChanged("due_date", ":dueDate"))
+            + " WHERE id = :id";
+
+    /**
+     * Columns a merge patch may write, keyed by entity property.
+     */
+    private static final Map<String, String> PATCHABLE_COLUMNS = Map.of(
+            "title", "title",
+            "description", "description",
+            "status", "status",
+            "priority", "priority",
+            "dueDate", "due_date");
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (rs, rowNum) -> Task.builder()
+            .id(rs.getLong("id"))
+            .title(rs.getString("title"))
+            .description(rs.getString("description"))
+            .status(TaskStatus.valueOf(rs.getString("status")))
+            .priority(Priority.valueOf(rs.getString("priority")))
+            .dueDate(rs.getObject("due_date", LocalDate.class))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .version(rs.getLong("version"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ReturningStyle returningStyle;
+
+    public TaskRepositoryCustomImpl(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager,
+                                    @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        if (datasourceUrl.startsWith("jdbc:postgresql:")) {
+            this.returningStyle = ReturningStyle.RETURNING;
+        } else if (datasourceUrl.startsWith("jdbc:h2:")) {
+            this.returningStyle = ReturningStyle.FINAL_TABLE;
+        } else {
+            this.returningStyle = ReturningStyle.REREAD;
+        }
+    }
+
+    @Override
+    public Optional<Task> replaceContent(Long id, Task values, LocalDateTime updatedAt) {
+        // Explicit SQL types: PostgreSQL cannot infer the type of a NULL in IS DISTINCT FROM
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id, Types.BIGINT)
+                .addValue("title", values.getTitle(), Types.VARCHAR)
+                .addValue("description", values.getDescription(), Types.VARCHAR)
+                .addValue("status", values.getStatus() == null ? null : values.getStatus().name(), Types.VARCHAR)
+                .addValue("priority", values.getPriority() == null ? null : values.getPriority().name(), Types.VARCHAR)
+                .addValue("dueDate", values.getDueDate(), Types.DATE)
+                .addValue("updatedAt", Timestamp.valueOf(updatedAt), Types.TIMESTAMP);
+
+        return updateReturning(UPDATE_SQL, params);
+    }
+
+    @Override
+    public Optional<Task> patchContent(Long id, Map<String, Object> changes, Long expectedVersion,
+                                       LocalDateTime updatedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id, Types.BIGINT)
+                .addValue("expectedVersion", expectedVersion, Types.BIGINT)
+                .addValue("updatedAt", Timestamp.valueOf(updatedAt), Types.TIMESTAMP);
+        StringJoiner changed = new StringJoiner(" OR ", "(", ")");
+        StringJoiner assignments = new StringJoiner(", ");
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            String property = change.getKey();
+            String column = PATCHABLE_COLUMNS.get(property);
+            if (column == null) {
+                throw new IllegalArgumentException("Not a patchable task property: " + property);
+            }
+            Object value = change.getValue() instanceof Enum<?> constant ? constant.name() : change.getValue();
+            params.addValue(property, value, "dueDate".equals(property) ? Types.DATE : Types.VARCHAR);
+            changed.add(column + " IS DISTINCT FROM :" + property);
+            assignments.add(assignIfChanged(column, ":" + property));
+        }
+
+        String sql = "UPDATE tasks SET "
+                + "version = CASE WHEN " + changed + " THEN version + 1 ELSE version END, "
+                + "updated_at = CASE WHEN " + changed + " THEN :updatedAt ELSE updated_at END, "
+                + assignments
+                + " WHERE id = :id"
+                + (expectedVersion != null ? " AND version = :expectedVersion" : "");
+        return updateReturning(sql, params);
+    }
+
+    @Override
+    public int deleteTaskById(Long id) {
+        invalidateCached(id);
+        return jdbcTemplate.update("DELETE FROM tasks WHERE id = :id", new MapSqlParameterSource("id", id));
+    }
+
+    @Override
+    public void incrementListVersion() {
+        jdbcTemplate.update("UPDATE task_list_version SET version = version + 1 WHERE id = 1", Map.of());
+    }
+
+    /**
+     * Assignment that writes {@code value} only if it differs from the stored column. An unchanged
+     * column is set to itself, so PostgreSQL keeps the stored datum instead of writing a copy; for
+     * a TOASTed description that saves re-compressing and re-storing every chunk.
+     */
+    private static String assignIfChanged(String column, String value) {
+        return column + " = CASE WHEN " + column + " IS DISTINCT FROM " + value
+                + " THEN " + value + " ELSE " + column + " END";
+    }
+
+    /**
+     * Run an UPDATE of at most one row and return that row as stored, or empty if none matched.
+     */
+    private Optional<Task> updateReturning(String updateSql, MapSqlParameterSource params) {
+        invalidateCached((Long) params.getValue("id"));
+        switch (returningStyle) {
+            case RETURNING -> {
+                return jdbcTemplate.query(updateSql + " RETURNING " + COLUMNS, params, TASK_ROW_MAPPER)
+                        .stream().findFirst();
+            }
+            case FINAL_TABLE -> {
+                return jdbcTemplate.query("SELECT " + COLUMNS + " FROM FINAL TABLE (" + updateSql + ")",
+                        params, TASK_ROW_MAPPER).stream().findFirst();
+            }
+            default -> {
+                if (jdbcTemplate.update(updateSql, params) == 0) {
+                    return Optional.empty();
+                }
+                return Optional.ofNullable(jdbcTemplate.queryForObject(
+                        "SELECT " + COLUMNS + " FROM tasks WHERE id = :id", params, TASK_ROW_MAPPER));
+            }
+        }
+    }
+
+    /**
+     * Soft-lock the task's cache entry until the transaction completes, so no reader caches the
+     * row in the meantime and loads that started before the commit are not cached after it, and
+     * mark {@code tasks} as changed so cached finder results are discarded. Both are no-ops with
+     * the second-level or query cache disabled.
+     */
+    private void invalidateCached(Long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor factory = session.getFactory();
+        EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(Task.class);
+        String[] spaces = (String[]) persister.getQuerySpaces();
+        TimestampsCache timestamps = factory.getCache().getTimestampsCache();
+        timestamps.preInvalidate(spaces, session);
+
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        Object key = access == null ? null : access.generateCacheKey(id, persister, factory, session.getTenantIdentifier());
+        SoftLock lock = access == null ? null : access.lockItem(session, key, null);
+        session.getActionQueue().registerCallback((AfterCompletionCallback) (success, completed) -> {
+            if (access != null) {
+                access.unlockItem(completed, key, lock);
+            }
+            timestamps.invalidate(spaces, completed);
+        });
+    }
+
+    /**
+     * How the database hands back the row an UPDATE wrote.
+     */
+    private enum ReturningStyle {
+        RETURNING, FINAL_TABLE, REREAD
+    }
+}
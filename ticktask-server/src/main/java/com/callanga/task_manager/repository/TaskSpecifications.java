@@ -0,0 +1,55 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Reusable Criteria building blocks for dynamic task queries.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> statusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Collection<Priority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    /**
+     * Tasks strictly after the keyset position in {@code (createdAt, id)} order, with the
+     * redundant lower bound that lets the planner seek {@code idx_tasks_created_at_id}.
+     */
+    public static Specification<Task> createdAfter(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), createdAt),
+                cb.or(cb.greaterThan(root.get("createdAt"), createdAt),
+                        cb.and(cb.equal(root.get("createdAt"), createdAt), cb.greaterThan(root.get("id"), id))));
+    }
+
+    public static Specification<Task> titleContains(String text) {
+        String pattern = "%" + escapeLike(text.toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("title")), pattern, '\\');
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,22 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Task row for list views: every column except the full description, of which only the first
+ * {@link #DESCRIPTION_HEAD_LENGTH} characters are read. Cutting the TEXT column in SQL keeps rows
+ * narrow and lets PostgreSQL decompress only the start of a TOASTed value.
+ *
+ * @param descriptionHead one character longer than the preview, so a cut is detectable
+ */
+public record TaskSummary(Long id, String title, String descriptionHead, TaskStatus status, Priority priority,
+                          LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+
+    public static final int DESCRIPTION_HEAD_LENGTH = DESCRIPTION_PREVIEW_LENGTH + 1;
+}
@@ -0,0 +1,35 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.entity.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for TaskTombstone entity.
+ */
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Tombstones strictly after the given {@code (deletedAt, taskId)} position, oldest first.
+     * Seeks through the {@code idx_task_tombstones_deleted_at} index.
+     */
+    @Query("SELECT t FROM TaskTombstone t WHERE (t.deletedAt, t.taskId) > (:since, :afterId) "
+            + "ORDER BY t.deletedAt ASC, t.taskId ASC")
+    List<TaskTombstone> findDeletedAfter(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+                                         Limit limit);
+
+    /**
+     * Remove tombstones older than the given time in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,353 @@
+package com.callanga.task_manager.search;
+
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Portable in-process inverted index over task titles and descriptions, used where PostgreSQL
+ * search is unavailable (H2, tests). Built from the database at startup and kept current by
+ * {@link TaskChangedEvent}s after each committed write.
+ *
+ * <p>Postings are primitive arrays sorted by task id, so a query intersects the shortest list
+ * against the others by binary search and ranks with a bounded heap. Terms are matched exactly,
+ * except the last query term which also matches as a prefix for search-as-you-type.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryTaskSearchIndex implements TaskSearchEngine, ApplicationRunner {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<Long, String[]> documentTerms = new HashMap<>();
+
+    /**
+     * Load every existing task into the index once the application has started.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        List<Task> batch = taskRepository.findFirstPage(Limit.of(REBUILD_BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.forEach(task -> index(task.getId(), task.getTitle(), task.getDescription()));
+            Task last = batch.get(batch.size() - 1);
+            batch = taskRepository.findPageAfter(last.getCreatedAt(), last.getId(), Limit.of(REBUILD_BATCH_SIZE));
+        }
+        log.info("Indexed {} tasks for in-memory search in {} ms",
+                size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == TaskChangedEvent.Type.DELETED) {
+            remove(event.getTaskId());
+        } else {
+            TaskResponse task = event.getTask();
+            index(task.getId(), task.getTitle(), task.getDescription());
+        }
+    }
+
+    /**
+     * Add or replace the indexed text of a task.
+     */
+    public void index(Long id, String title, String description) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        addTerms(weights, title, TITLE_WEIGHT);
+        addTerms(weights, description, DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            String[] terms = new String[weights.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                // Reuse the dictionary's key instance so each term string is stored once
+                String term = entry.getKey();
+                String dictionaryTerm = postings.ceilingKey(term);
+                if (term.equals(dictionaryTerm)) {
+                    term = dictionaryTerm;
+                }
+                postings.computeIfAbsent(term, t -> new Postings()).put(id, entry.getValue());
+                terms[i++] = term;
+            }
+            documentTerms.put(id, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String text, int limit) {
+        List<String> queryTerms = tokenize(text).stream().distinct().toList();
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documentTerms.size();
+            List<ScoredIds> lists = new ArrayList<>(queryTerms.size());
+            for (int i = 0; i < queryTerms.size(); i++) {
+                boolean prefix = i == queryTerms.size() - 1 && queryTerms.get(i).length() >= MIN_PREFIX_LENGTH;
+                ScoredIds list = lookup(queryTerms.get(i), prefix, documentCount);
+                if (list.size == 0) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            return topMatches(lists, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long id) {
+        String[] terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Scored postings for one query term; a prefix term unions every dictionary term it starts.
+     */
+    private ScoredIds lookup(String term, boolean prefix, int documentCount) {
+        if (!prefix) {
+            Postings exact = postings.get(term);
+            return exact == null ? ScoredIds.EMPTY : ScoredIds.of(exact, idf(exact, documentCount));
+        }
+        // Merge smallest lists first so each posting is copied O(log k) times rather than O(k)
+        PriorityQueue<ScoredIds> pending = new PriorityQueue<>(Comparator.comparingInt(list -> list.size));
+        for (Postings list : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+            pending.add(ScoredIds.of(list, idf(list, documentCount)));
+            if (pending.size() == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+        }
+        if (pending.isEmpty()) {
+            return ScoredIds.EMPTY;
+        }
+        while (pending.size() > 1) {
+            pending.add(pending.poll().mergeMax(pending.poll()));
+        }
+        return pending.poll();
+    }
+
+    private static float idf(Postings list, int documentCount) {
+        return (float) Math.log(1.0 + (double) documentCount / list.size);
+    }
+
+    /**
+     * Intersect the lists, driving from the shortest, and keep the best {@code limit} by score.
+     */
+    private static List<Long> topMatches(List<ScoredIds> lists, int limit) {
+        ScoredIds driver = lists.get(0);
+        PriorityQueue<ScoredId> best = new PriorityQueue<>(limit + 1, ScoredId.WORST_FIRST);
+        float threshold = Float.NEGATIVE_INFINITY;
+        candidates:
+        for (int i = 0; i < driver.size; i++) {
+            long id = driver.ids[i];
+            float score = driver.score(i);
+            for (int j = 1; j < lists.size(); j++) {
+                ScoredIds other = lists.get(j);
+                int position = Arrays.binarySearch(other.ids, 0, other.size, id);
+                if (position < 0) {
+                    continue candidates;
+                }
+                score += other.score(position);
+            }
+            // Ids ascend, so a later id with an equal score never displaces an earlier one
+            if (best.size() == limit && score <= threshold) {
+                continue;
+            }
+            best.offer(new ScoredId(id, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+            if (best.size() == limit) {
+                threshold = best.peek().score();
+            }
+        }
+        List<ScoredId> ranked = new ArrayList<>(best);
+        ranked.sort(ScoredId.WORST_FIRST.reversed());
+        return ranked.stream().map(ScoredId::id).toList();
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Posting list of one term: task ids in ascending order with their term weights.
+     * New tasks get increasing ids, so the common insert is an append.
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[2];
+        private int[] weights = new int[2];
+        private int size;
+
+        void put(long id, int weight) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                weights[position] = weight;
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(weights, position + 1, weights, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+
+    /**
+     * Query-time view of postings. Exact terms score straight off the posting weights; merged
+     * prefix unions carry materialised scores.
+     */
+    private static final class ScoredIds {
+
+        static final ScoredIds EMPTY = new ScoredIds(new long[0], null, new float[0], 0f, 0);
+
+        final long[] ids;
+        final int[] weights;
+        final float[] scores;
+        final float idf;
+        final int size;
+
+        ScoredIds(long[] ids, int[] weights, float[] scores, float idf, int size) {
+            this.ids = ids;
+            this.weights = weights;
+            this.scores = scores;
+            this.idf = idf;
+            this.size = size;
+        }
+
+        static ScoredIds of(Postings list, float idf) {
+            return new ScoredIds(list.ids, list.weights, null, idf, list.size);
+        }
+
+        float score(int position) {
+            return scores != null ? scores[position] : weights[position] * idf;
+        }
+
+        /**
+         * Sorted union keeping the higher score when both lists contain an id.
+         */
+        ScoredIds mergeMax(ScoredIds other) {
+            long[] mergedIds = new long[size + other.size];
+            float[] mergedScores = new float[size + other.size];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < size || j < other.size) {
+                if (j == other.size || (i < size && ids[i] < other.ids[j])) {
+                    mergedIds[n] = ids[i];
+                    mergedScores[n++] = score(i++);
+                } else if (i == size || other.ids[j] < ids[i]) {
+                    mergedIds[n] = other.ids[j];
+                    mergedScores[n++] = other.score(j++);
+                } else {
+                    mergedIds[n] = ids[i];
+                    mergedScores[n++] = Math.max(score(i++), other.score(j++));
+                }
+            }
+            return new ScoredIds(mergedIds, null, mergedScores, 0f, n);
+        }
+    }
+
+    private record ScoredId(long id, float score) {
+
+        /**
+         * Lowest score first; on equal scores the newer task ranks lower.
+         */
+        static final Comparator<ScoredId> WORST_FIRST = Comparator.comparingDouble(ScoredId::score)
+                .thenComparing(Comparator.comparingLong(ScoredId::id).reversed());
+    }
+}
@@ -0,0 +1,72 @@
+package com.callanga.task_manager.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL search backed by the {@code search_vector} tsvector column and a pg_trgm index on the title.
+ * Full-text matches and fuzzy matches against words of the title are combined and ranked in one
+ * index-served query. The last word is matched as a prefix, so results keep up while a word is still
+ * being typed. Only the first {@value #MAX_RANKED_MATCHES} matches are ranked, which bounds the cost
+ * of a term found in a large share of tasks.
+ * The column and GIN indexes are created by the {@code db/migration/postgresql} migrations.
+ */
+@Component
+@ConditionalOnProperty(name = "task.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresTaskSearchEngine implements TaskSearchEngine {
+
+    private static final int MAX_RANKED_MATCHES = 1_000;
+
+    /**
+     * The query is materialized so it is built once, not once per row, when the statement runs
+     * with a cached generic plan.
+     */
+    private static final String SEARCH_SQL = """
+            WITH q AS MATERIALIZED (
+                SELECT CASE WHEN :prefix = '' THEN websearch_to_tsquery('english', :text)
+                            ELSE websearch_to_tsquery('english', :head) && to_tsquery('english', :prefix || ':*')
+                       END AS ts,
+                       lower(:text) AS raw
+            ),
+            matches AS (
+                SELECT t.id, ts_rank_cd(t.search_vector, q.ts) + word_similarity(q.raw, lower(t.title)) AS rank
+                FROM tasks t, q
+                WHERE t.search_vector @@ q.ts
+                   OR q.raw <% lower(t.title)
+                LIMIT :candidates
+            )
+            SELECT id
+            FROM matches
+            ORDER BY rank DESC, id
+            LIMIT :limit
+            """;
+
+    /**
+     * A plain last word of at least two characters: not quoted, negated or followed by anything
+     * else websearch syntax reads.
+     */
+    private static final Pattern LAST_WORD = Pattern.compile("(^|\\s)([\\p{L}\\p{N}]{2,})\\s*$");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> search(String text, int limit) {
+        Matcher lastWord = LAST_WORD.matcher(text);
+        boolean prefixed = lastWord.find();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("text", text)
+                .addValue("head", prefixed ? text.substring(0, lastWord.start(2)) : "")
+                .addValue("prefix", prefixed ? lastWord.group(2) : "")
+                .addValue("candidates", MAX_RANKED_MATCHES)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(SEARCH_SQL, params, Long.class);
+    }
+}
@@ -0,0 +1,17 @@
+package com.callanga.task_manager.search;
+
+import java.util.List;
+
+/**
+ * Full-text search over task titles and descriptions.
+ * Selected with the {@code task.search.engine} property ({@code postgres} or {@code memory}).
+ */
+public interface TaskSearchEngine {
+
+    /**
+     * Find tasks matching the given free text.
+     *
+     * @return ids of matching tasks, most relevant first, at most {@code limit} of them
+     */
+    List<Long> search(String text, int limit);
+}
@@ -0,0 +1,174 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.dto.TaskBatchOperation;
+import com.callanga.task_manager.dto.TaskBatchResponse;
+import com.callanga.task_manager.dto.TaskBatchResult;
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.exception.InvalidBatchRequestException;
+import com.callanga.task_manager.exception.TaskNotFoundException;
+import com.callanga.task_manager.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for bulk task operations.
+ * Runs a whole batch in one transaction with JDBC batching: one SELECT for every referenced id,
+ * batched INSERTs and UPDATEs at flush, and a single DELETE for all removed tasks.
+ * Each operation is validated and reported on its own; invalid items are skipped, not fatal.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "task.service", histogram = true)
+@Transactional
+public class TaskBatchService {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskBatchResponse execute(List<TaskBatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new InvalidBatchRequestException("Batch must contain at least one operation");
+        }
+        if (operations.size() > MAX_BATCH_SIZE) {
+            throw new InvalidBatchRequestException("Batch cannot exceed " + MAX_BATCH_SIZE + " operations");
+        }
+
+        TaskBatchResult[] results = new TaskBatchResult[operations.size()];
+        for (int i = 0; i < operations.size(); i++) {
+            Map<String, String> errors = validate(operations.get(i));
+            if (!errors.isEmpty()) {
+                results[i] = failure(i, operations.get(i), HttpStatus.BAD_REQUEST, errors);
+            }
+        }
+
+        Set<Long> referencedIds = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            if (results[i] == null && operations.get(i).getOp() != TaskBatchOperation.Type.CREATE) {
+                referencedIds.add(operations.get(i).getId());
+            }
+        }
+        Map<Long, Task> existing = referencedIds.isEmpty() ? Map.of()
+                : taskRepository.findAllById(referencedIds).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Map<Integer, Task> written = new LinkedHashMap<>();
+        List<Task> created = new ArrayList<>();
+        List<Task> deleted = new ArrayList<>();
+        Set<Long> deletedIds = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            TaskBatchOperation operation = operations.get(i);
+            if (operation.getOp() == TaskBatchOperation.Type.CREATE) {
+                Task newTask = TaskService.newTask(operation.getTask());
+                created.add(newTask);
+                written.put(i, newTask);
+                continue;
+            }
+            Task task = existing.get(operation.getId());
+            if (task == null || deletedIds.contains(operation.getId())) {
+                results[i] = failure(i, operation, HttpStatus.NOT_FOUND,
+                        Map.of("id", new TaskNotFoundException(operation.getId()).getMessage()));
+            } else if (operation.getOp() == TaskBatchOperation.Type.UPDATE) {
+                TaskService.applyRequest(task, operation.getTask());
+                written.put(i, task);
+            } else {
+                deleted.add(task);
+                deletedIds.add(task.getId());
+                results[i] = TaskBatchResult.builder()
+                        .index(i)
+                        .op(operation.getOp())
+                        .id(task.getId())
+                        .status(HttpStatus.NO_CONTENT.value())
+                        .build();
+            }
+        }
+
+        // Ids come from the pooled sequence, so persisting costs no round trip until the batched flush
+        taskRepository.saveAll(created);
+        if (!deleted.isEmpty()) {
+            taskRepository.deleteAllInBatch(deleted);
+        }
+        taskRepository.flush();
+
+        written.forEach((i, task) -> {
+            TaskBatchOperation operation = operations.get(i);
+            TaskResponse response = TaskResponse.fromEntity(task);
+            results[i] = TaskBatchResult.builder()
+                    .index(i)
+                    .op(operation.getOp())
+                    .id(task.getId())
+                    .status(operation.getOp() == TaskBatchOperation.Type.CREATE
+                            ? HttpStatus.CREATED.value() : HttpStatus.OK.value())
+                    .task(response)
+                    .build();
+            eventPublisher.publishEvent(operation.getOp() == TaskBatchOperation.Type.CREATE
+                    ? TaskChangedEvent.created(response) : TaskChangedEvent.updated(response));
+        });
+        deletedIds.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.deleted(id)));
+
+        int failed = (int) Arrays.stream(results).filter(result -> result.getErrors() != null).count();
+        return TaskBatchResponse.builder()
+                .results(List.of(results))
+                .succeeded(results.length - failed)
+                .failed(failed)
+                .build();
+    }
+
+    private Map<String, String> validate(TaskBatchOperation operation) {
+        Map<String, String> errors = new HashMap<>();
+        if (operation == null || operation.getOp() == null) {
+            errors.put("op", "Operation is required");
+            return errors;
+        }
+        if (operation.getOp() != TaskBatchOperation.Type.CREATE && operation.getId() == null) {
+            errors.put("id", "Id is required");
+        }
+        if (operation.getOp() != TaskBatchOperation.Type.DELETE) {
+            TaskRequest request = operation.getTask();
+            if (request == null) {
+                errors.put("task", "Task is required");
+            } else {
+                for (ConstraintViolation<TaskRequest> violation : validator.validate(request)) {
+                    errors.put("task." + violation.getPropertyPath(), violation.getMessage());
+                }
+            }
+        }
+        return errors;
+    }
+
+    private static TaskBatchResult failure(int index, TaskBatchOperation operation, HttpStatus status,
+                                           Map<String, String> errors) {
+        return TaskBatchResult.builder()
+                .index(index)
+                .op(operation == null ? null : operation.getOp())
+                .id(operation == null ? null : operation.getId())
+                .status(status.value())
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.dto.TaskChangesResponse;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskTombstone;
+import com.callanga.task_manager.exception.ChangeTokenExpiredException;
+import com.callanga.task_manager.repository.TaskRepository;
+import com.callanga.task_manager.repository.TaskTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service class for incremental delta sync.
+ * Returns tasks whose {@code updated_at} and tombstones whose {@code deleted_at} fall after the
+ * client's token, so a refresh costs O(changes) index seeks rather than O(all tasks). Pages
+ * resume from a {@code (stamp, id)} keyset, so a batch committed under one stamp pages through
+ * however large it is.
+ *
+ * <p>Timestamps are taken before commit, so a slow transaction can become visible with a stamp
+ * older than a token already handed out. A complete response therefore rewinds its token by
+ * {@code task.changes.overlap}. A truncated page whose last change falls inside that window
+ * keeps resuming after it, so paging still advances, but records the window start in its token
+ * and the final page rewinds at least that far. Changes in the window may be delivered twice,
+ * which is harmless because applying them is idempotent.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "task.service", histogram = true)
+@Transactional(readOnly = true)
+public class TaskChangeService {
+
+    public static final int DEFAULT_CHANGES_LIMIT = 500;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+
+    @Value("${task.changes.overlap:5s}")
+    private Duration overlap;
+
+    @Value("${task.changes.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    /**
+     * Changes after the given token, or every task when no token is given.
+     * The limit is clamped to {@link TaskService#MAX_LIST_SIZE}.
+     * Not read-only so it runs on the primary: the next token comes from this server's clock, and a
+     * lagging replica would hand out a token past changes it has not yet seen.
+     */
+    @Transactional
+    public TaskChangesResponse getChanges(String token, Integer limit) {
+        LocalDateTime readStart = LocalDateTime.now();
+        int size = limit == null ? DEFAULT_CHANGES_LIMIT : Math.max(1, Math.min(limit, TaskService.MAX_LIST_SIZE));
+
+        TaskChangeToken current = TaskChangeToken.START;
+        if (token != null && !token.isBlank()) {
+            current = TaskChangeToken.decode(token);
+            if (current.getSince().isBefore(readStart.minus(tombstoneRetention))) {
+                throw new ChangeTokenExpiredException();
+            }
+        }
+        LocalDateTime since = current.getSince();
+        LocalDateTime rewindTo = current.getRewindTo();
+        LocalDateTime windowStart = readStart.minus(overlap);
+
+        // Fetch one extra of each to learn whether more changes are pending
+        List<Task> tasks = taskRepository.findUpdatedAfter(since, current.getAfterTaskId(), Limit.of(size + 1));
+        List<TaskTombstone> tombstones = tombstoneRepository.findDeletedAfter(since, current.getAfterTombstoneId(),
+                Limit.of(size + 1));
+
+        // Merge both streams in stamp order, up to the limit
+        List<TaskResponse> updated = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        LocalDateTime last = since;
+        long afterTaskId = current.getAfterTaskId();
+        long afterTombstoneId = current.getAfterTombstoneId();
+        int t = 0;
+        int d = 0;
+        while (updated.size() + deleted.size() < size && (t < tasks.size() || d < tombstones.size())) {
+            boolean takeTask = d == tombstones.size() || (t < tasks.size()
+                    && !tasks.get(t).getUpdatedAt().isAfter(tombstones.get(d).getDeletedAt()));
+            if (takeTask) {
+                Task task = tasks.get(t++);
+                updated.add(TaskResponse.fromEntity(task));
+                last = task.getUpdatedAt();
+                // Deletions at this stamp come after its updates, so all of them are still pending
+                afterTaskId = task.getId();
+                afterTombstoneId = 0;
+            } else {
+                TaskTombstone tombstone = tombstones.get(d++);
+                deleted.add(tombstone.getTaskId());
+                last = tombstone.getDeletedAt();
+                afterTaskId = Long.MAX_VALUE;
+                afterTombstoneId = tombstone.getTaskId();
+            }
+        }
+        boolean hasMore = t < tasks.size() || d < tombstones.size();
+
+        TaskChangeToken next;
+        if (hasMore) {
+            // Changes stamped inside the overlap window may still be committing behind this page
+            if (last.isAfter(windowStart) && (rewindTo == null || windowStart.isBefore(rewindTo))) {
+                rewindTo = windowStart;
+            }
+            next = TaskChangeToken.at(last, afterTaskId, afterTombstoneId, rewindTo);
+        } else {
+            next = TaskChangeToken.at(rewindTo != null && rewindTo.isBefore(windowStart) ? rewindTo : windowStart);
+        }
+
+        return TaskChangesResponse.builder()
+                .updated(updated)
+                .deleted(deleted)
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.exception.InvalidTaskQueryException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Delta-sync position in change order: by stamp, updates before deletions at the same stamp, then
+ * by task id. Updates after {@code (since, afterTaskId)} and deletions after
+ * {@code (since, afterTombstoneId)} are still to be sent, so any number of changes sharing one
+ * stamp page through without being skipped.
+ * Between pages it can also carry {@code rewindTo}, the earliest point at which a change may still
+ * have been committing when a page was read; the token after the last page goes back to it.
+ * Encoded as an opaque URL-safe token so clients cannot depend on its layout.
+ */
+@Value
+public class TaskChangeToken {
+
+    /**
+     * Position before any change, used for the initial full sync.
+     */
+    public static final TaskChangeToken START = at(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+    private static final String REWIND_SEPARATOR = "~";
+    private static final String ID_SEPARATOR = "/";
+
+    LocalDateTime since;
+    long afterTaskId;
+    long afterTombstoneId;
+    LocalDateTime rewindTo;
+
+    /**
+     * Token for every change stamped strictly after the given time, truncated to the microsecond
+     * precision the database stores.
+     */
+    public static TaskChangeToken at(LocalDateTime since) {
+        return at(since, Long.MAX_VALUE, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Token at the given keyset position that rewinds to {@code rewindTo}, if not {@code null},
+     * once paging is done.
+     */
+    public static TaskChangeToken at(LocalDateTime since, long afterTaskId, long afterTombstoneId,
+                                     LocalDateTime rewindTo) {
+        return new TaskChangeToken(since.truncatedTo(ChronoUnit.MICROS), afterTaskId, afterTombstoneId,
+                rewindTo == null ? null : rewindTo.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    public String encode() {
+        StringBuilder raw = new StringBuilder(since.toString());
+        if (afterTaskId != Long.MAX_VALUE || afterTombstoneId != Long.MAX_VALUE) {
+            raw.append(ID_SEPARATOR).append(afterTaskId).append(ID_SEPARATOR).append(afterTombstoneId);
+        }
+        if (rewindTo != null) {
+            raw.append(REWIND_SEPARATOR).append(rewindTo);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            LocalDateTime rewindTo = null;
+            int rewind = raw.indexOf(REWIND_SEPARATOR);
+            if (rewind >= 0) {
+                rewindTo = LocalDateTime.parse(raw.substring(rewind + REWIND_SEPARATOR.length()));
+                raw = raw.substring(0, rewind);
+            }
+            // Tokens issued before the keyset carried ids mean strictly after the stamp
+            String[] parts = raw.split(ID_SEPARATOR, -1);
+            if (parts.length == 1) {
+                return at(LocalDateTime.parse(parts[0]), Long.MAX_VALUE, Long.MAX_VALUE, rewindTo);
+            }
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Unexpected token layout");
+            }
+            return at(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]), rewindTo);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidTaskQueryException("Invalid change token: " + token);
+        }
+    }
+}
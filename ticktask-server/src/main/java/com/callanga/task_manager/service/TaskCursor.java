@@ -0,0 +1,53 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.exception.InvalidCursorException;
+import com.callanga.task_manager.repository.TaskSummary;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the {@code (created_at, id)} ordering of tasks.
+ * Encoded as an opaque URL-safe token so clients cannot depend on its layout.
+ */
+@Value
+public class TaskCursor {
+
+    private static final char SEPARATOR = '|';
+
+    LocalDateTime createdAt;
+    Long id;
+
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor of(TaskSummary summary) {
+        return new TaskCursor(summary.createdAt(), summary.id());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new TaskCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
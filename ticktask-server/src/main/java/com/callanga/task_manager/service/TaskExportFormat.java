@@ -0,0 +1,30 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.exception.InvalidTaskQueryException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+/**
+ * Output formats supported by the task export.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static TaskExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidTaskQueryException(
+                        "Unsupported export format '" + value + "'; use ndjson or csv"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Moves the task list version once per transaction that writes tasks, inside that transaction,
+ * so the version behind the list ETag commits, replicates and rolls back with the writes.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskListVersionRecorder {
+
+    private final EntityManager entityManager;
+    private final TaskRepository taskRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(TaskListVersionRecorder.this);
+            }
+        });
+        // Flush pending task writes first: every writer then locks the single version row last
+        // and holds it only until its commit, and cannot deadlock waiting on another's task rows
+        entityManager.flush();
+        taskRepository.incrementListVersion();
+    }
+}
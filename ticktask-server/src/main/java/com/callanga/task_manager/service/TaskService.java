@@ -1,17 +1,52 @@
 package com.callanga.task_manager.service;
 
+import com.callanga.task_manager.coalescing.Coalesced;
+import com.callanga.task_manager.config.CacheConfig;
+import com.callanga.task_manager.dto.TaskField;
+import com.callanga.task_manager.dto.TaskPageResponse;
+import com.callanga.task_manager.dto.TaskQuery;
 import com.callanga.task_manager.dto.TaskRequest;
 import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSliceResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
 import com.callanga.task_manager.entity.Priority;
 import com.callanga.task_manager.entity.Task;
 import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.exception.InvalidTaskPatchException;
+import com.callanga.task_manager.exception.InvalidTaskQueryException;
 import com.callanga.task_manager.exception.TaskNotFoundException;
+import com.callanga.task_manager.exception.TaskVersionConflictException;
 import com.callanga.task_manager.repository.TaskRepository;
+import com.callanga.task_manager.repository.TaskSpecifications;
+import com.callanga.task_manager.repository.TaskSummary;
+import com.callanga.task_manager.search.TaskSearchEngine;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -19,30 +54,56 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "task.service", histogram = true)
 @Transactional
 public class TaskService {
 
+    /**
+     * Hard cap on the unpaginated list endpoint; larger result sets must use {@link #getTaskPage}.
+     */
+    public static final int MAX_LIST_SIZE = 1000;
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Properties a task query may sort on; each has a {@code (property, id)} index on {@code tasks},
+     * matching the id tiebreaker {@link #parseSort} appends.
+     */
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "updatedAt", "dueDate", "title");
+
+    private static final Sort CREATION_ORDER = Sort.by("createdAt", "id");
+
+    /**
+     * Fields a merge patch may set; of those, the required ones may not be cleared with {@code null}.
+     */
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("title", "description", "status", "priority", "dueDate");
+
+    private static final Set<String> REQUIRED_PATCH_FIELDS = Set.of("title", "status", "priority");
+
     private final TaskRepository taskRepository;
+    private final TaskSearchEngine taskSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     /**
      * Create a new task.
      */
     public TaskResponse createTask(TaskRequest request) {
-        Task task = Task.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .status(request.getStatus() != null ? request.getStatus() : TaskStatus.TODO)
-                .priority(request.getPriority() != null ? request.getPriority() : Priority.MEDIUM)
-                .dueDate(request.getDueDate())
-                .build();
+        Task task = newTask(request);
 
         Task savedTask = taskRepository.save(task);
-        return TaskResponse.fromEntity(savedTask);
+        TaskResponse response = TaskResponse.fromEntity(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(response));
+        return response;
     }
 
     /**
      * Get a task by its ID.
+     * Read through the tasks cache; concurrent misses for one id share a single load.
      */
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public TaskResponse getTask(Long id) {
         Task task = taskRepository.findById(id)
@@ -51,44 +112,369 @@ public class TaskService {
     }
 
     /**
-     * Get all tasks.
+     * Get summaries of all tasks, up to {@link #MAX_LIST_SIZE} in creation order.
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> getAllTasks() {
+        return taskRepository.findFirstSummaryPage(Limit.of(MAX_LIST_SIZE)).stream()
+                .map(TaskSummaryResponse::fromSummary)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get only the given fields of all tasks, up to {@link #MAX_LIST_SIZE} in creation order.
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllTasks(Set<TaskField> fields) {
+        return taskRepository.findFields(fields, Specification.unrestricted(), CREATION_ORDER, 0, MAX_LIST_SIZE);
+    }
+
+    /**
+     * Entity tag of the task list returned by {@link #getAllTasks}; changes with every committed task write.
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public String getTaskListETag() {
+        return Long.toHexString(taskRepository.findListVersion());
+    }
+
+    /**
+     * Get one page of task summaries after the given cursor using keyset pagination.
+     * A {@code null} cursor starts from the beginning; the limit is clamped to {@link #MAX_PAGE_SIZE}.
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public TaskPageResponse<TaskSummaryResponse> getTaskPage(String cursor, Integer limit) {
+        int pageSize = clampPageSize(limit);
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<TaskSummary> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskRepository.findFirstSummaryPage(fetchLimit);
+        } else {
+            TaskCursor position = TaskCursor.decode(cursor);
+            tasks = taskRepository.findSummaryPageAfter(position.getCreatedAt(), position.getId(), fetchLimit);
+        }
+
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskSummary> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+
+        return TaskPageResponse.<TaskSummaryResponse>builder()
+                .items(page.stream().map(TaskSummaryResponse::fromSummary).collect(Collectors.toList()))
+                .nextCursor(hasMore ? TaskCursor.of(page.get(pageSize - 1)).encode() : null)
+                .limit(pageSize)
+                .build();
+    }
+
+    /**
+     * {@link #getTaskPage(String, Integer)} selecting only the given fields.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponse<Map<String, Object>> getTaskPage(String cursor, Integer limit, Set<TaskField> fields) {
+        int pageSize = clampPageSize(limit);
+        Specification<Task> position = Specification.unrestricted();
+        if (cursor != null && !cursor.isBlank()) {
+            TaskCursor after = TaskCursor.decode(cursor);
+            position = TaskSpecifications.createdAfter(after.getCreatedAt(), after.getId());
+        }
+
+        // The next cursor needs the keyset columns even when the client did not ask for them
+        Set<TaskField> selected = EnumSet.of(TaskField.ID, TaskField.CREATED_AT);
+        selected.addAll(fields);
+        List<Map<String, Object>> rows = taskRepository.findFields(selected, position, CREATION_ORDER, 0, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Map<String, Object>> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Map<String, Object> last = page.get(pageSize - 1);
+            nextCursor = new TaskCursor((LocalDateTime) last.get(TaskField.CREATED_AT.getProperty()),
+                    (Long) last.get(TaskField.ID.getProperty())).encode();
+        }
+        if (selected.size() > fields.size()) {
+            Set<String> requested = fields.stream().map(TaskField::getProperty).collect(Collectors.toSet());
+            page.forEach(row -> row.keySet().retainAll(requested));
+        }
+
+        return TaskPageResponse.<Map<String, Object>>builder()
+                .items(page)
+                .nextCursor(nextCursor)
+                .limit(pageSize)
+                .build();
+    }
+
+    /**
+     * Filter, search and sort tasks in a single dynamically built query.
      */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll().stream()
+    public TaskSliceResponse<TaskResponse> queryTasks(TaskQuery query) {
+        PageRequest pageable = toPageRequest(query);
+        Slice<Task> slice = taskRepository.findBy(toSpecification(query), q -> q.slice(pageable));
+
+        return TaskSliceResponse.<TaskResponse>builder()
+                .items(slice.getContent().stream().map(TaskResponse::fromEntity).collect(Collectors.toList()))
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * {@link #queryTasks(TaskQuery)} selecting only the given fields.
+     */
+    @Transactional(readOnly = true)
+    public TaskSliceResponse<Map<String, Object>> queryTasks(TaskQuery query, Set<TaskField> fields) {
+        PageRequest pageable = toPageRequest(query);
+        // One extra row tells whether a next slice exists, as Spring Data's slice query does
+        List<Map<String, Object>> rows = taskRepository.findFields(fields, toSpecification(query),
+                pageable.getSort(), (int) pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+
+        return TaskSliceResponse.<Map<String, Object>>builder()
+                .items(hasNext ? rows.subList(0, pageable.getPageSize()) : rows)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * Full-text search over titles and descriptions, most relevant first.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> searchTasks(String text, Integer limit) {
+        if (text == null || text.isBlank()) {
+            throw new InvalidTaskQueryException("Search text is required");
+        }
+        int size = clampPageSize(limit);
+
+        List<Long> rankedIds = taskSearchEngine.search(text.trim(), size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> tasksById = taskRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // findAllById does not preserve order; re-apply the engine's ranking
+        return rankedIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
                 .map(TaskResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    private static int clampPageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private PageRequest toPageRequest(TaskQuery query) {
+        int page = query.getPage() == null ? 0 : query.getPage();
+        int size = query.getSize() == null ? DEFAULT_PAGE_SIZE : query.getSize();
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidTaskQueryException(
+                    "page must be >= 0 and size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (query.getDueFrom() != null && query.getDueTo() != null
+                && query.getDueFrom().isAfter(query.getDueTo())) {
+            throw new InvalidTaskQueryException("dueFrom must not be after dueTo");
+        }
+        return PageRequest.of(page, size, parseSort(query.getSort()));
+    }
+
+    private Specification<Task> toSpecification(TaskQuery query) {
+        List<Specification<Task>> specs = new ArrayList<>();
+        if (query.getStatus() != null && !query.getStatus().isEmpty()) {
+            specs.add(TaskSpecifications.statusIn(query.getStatus()));
+        }
+        if (query.getPriority() != null && !query.getPriority().isEmpty()) {
+            specs.add(TaskSpecifications.priorityIn(query.getPriority()));
+        }
+        if (query.getDueFrom() != null) {
+            specs.add(TaskSpecifications.dueOnOrAfter(query.getDueFrom()));
+        }
+        if (query.getDueTo() != null) {
+            specs.add(TaskSpecifications.dueOnOrBefore(query.getDueTo()));
+        }
+        if (query.getTitle() != null && !query.getTitle().isBlank()) {
+            specs.add(TaskSpecifications.titleContains(query.getTitle().trim()));
+        }
+        return specs.isEmpty() ? Specification.unrestricted() : Specification.allOf(specs);
+    }
+
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return CREATION_ORDER;
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!SORTABLE_PROPERTIES.contains(property) || parts.length > 2) {
+            throw new InvalidTaskQueryException(
+                    "Unsupported sort '" + sort + "'; sortable properties are " + SORTABLE_PROPERTIES);
+        }
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new InvalidTaskQueryException("Unsupported sort direction in '" + sort + "'"))
+                : Sort.Direction.ASC;
+        // id breaks ties so slices stay stable across requests
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+
     /**
-     * Update an existing task.
+     * Update an existing task in a single UPDATE that returns the stored row. A request that
+     * changes nothing leaves the row as it was and publishes no event.
      */
     public TaskResponse updateTask(Long id, TaskRequest request) {
-        Task existingTask = taskRepository.findById(id)
+        Task values = Task.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(request.getStatus())
+                .priority(request.getPriority())
+                .dueDate(request.getDueDate())
+                .build();
+
+        LocalDateTime updatedAt = Task.currentTimestamp();
+        Task updatedTask = taskRepository.replaceContent(id, values, updatedAt)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        if (wasWritten(updatedTask, updatedAt)) {
+            eventPublisher.publishEvent(TaskChangedEvent.updated(response));
+        }
+        return response;
+    }
 
-        existingTask.setTitle(request.getTitle());
-        existingTask.setDescription(request.getDescription());
+    /**
+     * Apply a JSON Merge Patch (RFC 7396): only the fields present are written, in a single UPDATE,
+     * and a {@code null} clears an optional field. With an {@code expectedVersion} the write only
+     * succeeds while the task is still at that version.
+     */
+    public TaskResponse patchTask(Long id, Map<String, Object> patch, Long expectedVersion) {
+        Map<String, Object> changes = parsePatch(patch);
 
-        if (request.getStatus() != null) {
-            existingTask.setStatus(request.getStatus());
+        LocalDateTime updatedAt = Task.currentTimestamp();
+        Optional<Task> patched = changes.isEmpty()
+                ? taskRepository.findById(id).filter(task -> expectedVersion == null
+                        || expectedVersion.equals(task.getVersion()))
+                : taskRepository.patchContent(id, changes, expectedVersion, updatedAt);
+        if (patched.isEmpty()) {
+            // No row written: tell a missing task apart from a stale version
+            Long currentVersion = taskRepository.findVersionById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            throw new TaskVersionConflictException(id, expectedVersion, currentVersion);
         }
-        if (request.getPriority() != null) {
-            existingTask.setPriority(request.getPriority());
+
+        TaskResponse response = TaskResponse.fromEntity(patched.get());
+        if (wasWritten(patched.get(), updatedAt)) {
+            eventPublisher.publishEvent(TaskChangedEvent.updated(response));
         }
-        existingTask.setDueDate(request.getDueDate());
+        return response;
+    }
 
-        Task updatedTask = taskRepository.save(existingTask);
-        return TaskResponse.fromEntity(updatedTask);
+    /**
+     * Whether a content UPDATE changed the row: it only stamps {@code updatedAt} (and bumps the
+     * version) when some column differs, so an unchanged row keeps its earlier stamp.
+     */
+    private static boolean wasWritten(Task stored, LocalDateTime updatedAt) {
+        return updatedAt.equals(stored.getUpdatedAt());
     }
 
     /**
-     * Delete a task by its ID.
+     * Delete a task by its ID in a single DELETE; no affected row means it did not exist.
      */
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
+        if (taskRepository.deleteTaskById(id) == 0) {
             throw new TaskNotFoundException(id);
         }
-        taskRepository.deleteById(id);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id));
+    }
+
+    /**
+     * Convert a merge patch into typed column values, validating each field against the same
+     * constraints as {@link TaskRequest}. Every problem is reported at once, keyed by field.
+     */
+    private Map<String, Object> parsePatch(Map<String, Object> patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            String field = entry.getKey();
+            Object raw = entry.getValue();
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                errors.put(field, "Unknown or read-only field");
+            } else if (raw == null) {
+                if (REQUIRED_PATCH_FIELDS.contains(field)) {
+                    errors.put(field, "must not be null");
+                } else {
+                    changes.put(field, null);
+                }
+            } else {
+                try {
+                    Object value = switch (field) {
+                        case "status" -> parseEnum(TaskStatus.class, raw);
+                        case "priority" -> parseEnum(Priority.class, raw);
+                        case "dueDate" -> LocalDate.parse(raw.toString());
+                        default -> {
+                            if (!(raw instanceof String text)) {
+                                throw new IllegalArgumentException("must be a string");
+                            }
+                            yield text;
+                        }
+                    };
+                    Set<ConstraintViolation<TaskRequest>> violations =
+                            validator.validateValue(TaskRequest.class, field, value);
+                    if (violations.isEmpty()) {
+                        changes.put(field, value);
+                    } else {
+                        errors.put(field, violations.iterator().next().getMessage());
+                    }
+                } catch (DateTimeParseException ex) {
+                    errors.put(field, "must be a date in yyyy-MM-dd format");
+                } catch (IllegalArgumentException ex) {
+                    errors.put(field, ex.getMessage());
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidTaskPatchException(errors);
+        }
+        return changes;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, Object raw) {
+        try {
+            return Enum.valueOf(type, raw.toString());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported value '" + raw + "'");
+        }
+    }
+
+    /**
+     * Build a new, unsaved task from a request, applying default status and priority.
+     */
+    static Task newTask(TaskRequest request) {
+        return Task.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(request.getStatus() != null ? request.getStatus() : TaskStatus.TODO)
+                .priority(request.getPriority() != null ? request.getPriority() : Priority.MEDIUM)
+                .dueDate(request.getDueDate())
+                .build();
+    }
+
+    /**
+     * Overwrite a task with a full-replace request; a missing status or priority keeps the current value.
+     */
+    static void applyRequest(Task task, TaskRequest request) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+
+        if (request.getStatus() != null) {
+            task.setStatus(request.getStatus());
+        }
+        if (request.getPriority() != null) {
+            task.setPriority(request.getPriority());
+        }
+        task.setDueDate(request.getDueDate());
     }
 }
@@ -0,0 +1,53 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.entity.TaskTombstone;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.repository.TaskTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Writes a {@link TaskTombstone} for every deleted task inside the deleting transaction,
+ * so the tombstone and the delete commit or roll back together, and prunes expired tombstones.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTombstoneRecorder {
+
+    private final EntityManager entityManager;
+    private final TaskTombstoneRepository tombstoneRepository;
+
+    @Value("${task.changes.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == TaskChangedEvent.Type.DELETED) {
+            // persist rather than save: the id is assigned, so save would merge and SELECT first
+            entityManager.persist(new TaskTombstone(event.getTaskId(), LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Delete tombstones past retention; tokens older than that are rejected as expired.
+     */
+    @Scheduled(fixedDelayString = "${task.changes.prune-interval:1h}")
+    @Transactional
+    public void pruneTombstones() {
+        int pruned = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (pruned > 0) {
+            log.info("Pruned {} task tombstones older than {}", pruned, tombstoneRetention);
+        }
+    }
+}
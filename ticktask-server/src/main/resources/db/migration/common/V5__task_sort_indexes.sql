@@ -0,0 +1,4 @@
+-- Orders /api/tasks/query can sort by without a filter to seek on: due date and title, each with
+-- the id tiebreaker the service appends. The trigram index on lower(title) cannot serve an ORDER BY.
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_id ON tasks (due_date, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_title_id ON tasks (title, id);
@@ -0,0 +1,10 @@
+-- Single-row counter behind the task list ETag, bumped once by every transaction that writes tasks.
+-- Reading it is one primary-key lookup, where count(*) and max(updated_at) scanned the whole table.
+CREATE TABLE task_list_version (
+    id      SMALLINT NOT NULL,
+    version BIGINT   NOT NULL,
+    CONSTRAINT pk_task_list_version PRIMARY KEY (id),
+    CONSTRAINT ck_task_list_version_single_row CHECK (id = 1)
+);
+
+INSERT INTO task_list_version (id, version) VALUES (1, 0);
@@ -0,0 +1,5 @@
+-- Tasks created before the switch from IDENTITY to the pooled tasks_seq generator keep their ids.
+-- Move the sequence past them so every block Hibernate allocates (50 ids ending at the value
+-- returned by nextval) starts above the highest existing id. Never moves the sequence backwards.
+
+SELECT setval('tasks_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tasks) + 50, (SELECT last_value FROM tasks_seq)));
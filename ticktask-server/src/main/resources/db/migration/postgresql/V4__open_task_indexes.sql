@@ -0,0 +1,9 @@
+-- Partial indexes over the tasks still open, which stay small as completed tasks accumulate.
+
+-- Open tasks by due date (what is due or overdue); rows without a due date are never in a due range
+CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date ON tasks (due_date, id)
+    WHERE status <> 'DONE' AND due_date IS NOT NULL;
+
+-- Open tasks by priority in creation order
+CREATE INDEX IF NOT EXISTS idx_tasks_open_priority_created_at ON tasks (priority, created_at, id)
+    WHERE status <> 'DONE';
@@ -0,0 +1,54 @@
+package com.callanga.task_manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test pinning the metrics exposed for scraping on embedded H2.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class PrometheusEndpointTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Should expose HTTP, pool, Hibernate, JVM and service metrics")
+    void prometheus_ShouldExposeOperationalMetrics() throws Exception {
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            // Arrange
+            http.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Scraped\"}"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+
+            // Act
+            HttpResponse<String> response = http.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/prometheus")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            // Assert
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body())
+                    .contains("http_server_requests_seconds_bucket{")
+                    .contains("hikaricp_connections_acquire_seconds_bucket{")
+                    .contains("hikaricp_connections_pending{")
+                    .contains("hibernate_query_executions_total{")
+                    .contains("hibernate_flushes_total{")
+                    .contains("jvm_gc_memory_allocated_bytes_total{")
+                    .contains("method=\"createTask\"")
+                    .contains("task_service_seconds_bucket{");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.callanga.task_manager.cache;
+
+import com.callanga.task_manager.config.CacheConfig;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TaskCacheInvalidator.
+ */
+class TaskCacheInvalidatorTest {
+
+    private Cache cache;
+    private TaskCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.TASKS_CACHE);
+        cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        invalidator = new TaskCacheInvalidator(cacheManager);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - Should write created and updated tasks through to the cache")
+    void onTaskChanged_ShouldPutNewState() {
+        // Arrange
+        cache.put(1L, TaskResponse.builder().id(1L).title("Old").build());
+        TaskResponse updated = TaskResponse.builder().id(1L).title("New").build();
+        TaskResponse created = TaskResponse.builder().id(2L).title("Created").build();
+
+        // Act
+        invalidator.onTaskChanged(TaskChangedEvent.updated(updated));
+        invalidator.onTaskChanged(TaskChangedEvent.created(created));
+
+        // Assert
+        assertThat(cache.get(1L, TaskResponse.class)).isEqualTo(updated);
+        assertThat(cache.get(2L, TaskResponse.class)).isEqualTo(created);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - Should keep a newer cached version when an older update's listener runs last")
+    void onTaskChanged_ShouldKeepNewerVersion() {
+        // Arrange
+        TaskResponse newer = TaskResponse.builder().id(1L).title("Second").version(3L).build();
+        TaskResponse older = TaskResponse.builder().id(1L).title("First").version(2L).build();
+
+        // Act
+        invalidator.onTaskChanged(TaskChangedEvent.updated(newer));
+        invalidator.onTaskChanged(TaskChangedEvent.updated(older));
+
+        // Assert
+        assertThat(cache.get(1L, TaskResponse.class)).isEqualTo(newer);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - Should evict deleted tasks")
+    void onTaskChanged_ShouldEvictDeletedTask() {
+        // Arrange
+        cache.put(1L, TaskResponse.builder().id(1L).build());
+
+        // Act
+        invalidator.onTaskChanged(TaskChangedEvent.deleted(1L));
+
+        // Assert
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("constructor - Should fail fast when the tasks cache is not configured")
+    void constructor_ShouldFail_WhenCacheMissing() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("other");
+
+        assertThatThrownBy(() -> new TaskCacheInvalidator(cacheManager))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.callanga.task_manager.cache;
+
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskJsonFragmentCache and the list converter built on it.
+ */
+class TaskJsonFragmentCacheTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskJsonFragmentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TaskJsonFragmentCache(jsonMapper, meterRegistry, DataSize.ofMegabytes(1));
+    }
+
+    private TaskSummaryResponse summary(long id, String title, long version) {
+        return TaskSummaryResponse.builder()
+                .id(id)
+                .title(title)
+                .createdAt(LocalDateTime.of(2025, 1, 15, 9, 30))
+                .version(version)
+                .build();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", TaskJsonFragmentCache.CACHE_NAME)
+                .tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("getJson - Should reuse the fragment while the version is unchanged")
+    void getJson_ShouldHit_WhenVersionMatches() {
+        // Act
+        byte[] first = cache.getJson(summary(1L, "Title", 0L));
+        byte[] second = cache.getJson(summary(1L, "Title", 0L));
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getJson - Should re-encode a task whose version moved on")
+    void getJson_ShouldMiss_WhenVersionChanged() {
+        // Arrange
+        cache.getJson(summary(1L, "Old", 0L));
+
+        // Act
+        byte[] json = cache.getJson(summary(1L, "New", 1L));
+
+        // Assert
+        assertThat(new String(json)).contains("\"title\":\"New\"");
+        assertThat(gets("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - Should evict updated and deleted tasks")
+    void onTaskChanged_ShouldEvict() {
+        // Arrange
+        byte[] first = cache.getJson(summary(1L, "Title", 0L));
+        cache.getJson(summary(2L, "Other", 0L));
+
+        // Act
+        cache.onTaskChanged(TaskChangedEvent.updated(TaskResponse.builder().id(1L).build()));
+        cache.onTaskChanged(TaskChangedEvent.deleted(2L));
+        byte[] reloaded = cache.getJson(summary(1L, "Title", 0L));
+
+        // Assert
+        assertThat(reloaded).isNotSameAs(first).isEqualTo(first);
+        assertThat(gets("miss")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("converter - Should write the same JSON as Jackson with a known length")
+    void converter_ShouldMatchJackson() throws Exception {
+        // Arrange
+        List<TaskSummaryResponse> tasks = List.of(summary(1L, "One", 0L), summary(2L, "Two \"quoted\"", 4L));
+        TaskSummaryJsonHttpMessageConverter converter = new TaskSummaryJsonHttpMessageConverter(cache);
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        MockHttpOutputMessage empty = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(tasks, MediaType.APPLICATION_JSON, message);
+        converter.write(List.of(), MediaType.APPLICATION_JSON, empty);
+
+        // Assert
+        assertThat(message.getBodyAsString()).isEqualTo(jsonMapper.writeValueAsString(tasks));
+        assertThat(message.getHeaders().getContentLength()).isEqualTo(message.getBodyAsBytes().length);
+        assertThat(empty.getBodyAsString()).isEqualTo("[]");
+    }
+}
@@ -0,0 +1,138 @@
+package com.callanga.task_manager.coalescing;
+
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.jdbc.ReadYourWrites;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReadCoalescingAspect, applied to a stub reader through a plain AOP proxy.
+ */
+class ReadCoalescingAspectTest {
+
+    static class StubReader {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger reads = new AtomicInteger();
+
+        @Coalesced
+        public String read(String query) throws InterruptedException {
+            reads.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "rows for " + query;
+        }
+    }
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadCoalescingAspect aspect;
+    private StubReader target;
+    private StubReader reader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new ReadCoalescingAspect(meterRegistry);
+        target = new StubReader();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        reader = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double calls(String result) {
+        return meterRegistry.get("task.read.calls").tag("method", "read").tag("result", result).counter().count();
+    }
+
+    private void awaitCoalesced(double count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find("task.read.calls").tag("result", "coalesced").counter() == null
+                || calls("coalesced") < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("coalesce - Should run one read for concurrent calls with equal arguments")
+    void coalesce_ShouldShareRead() throws Exception {
+        // Arrange
+        Future<String> first = executor.submit(() -> reader.read("all"));
+        target.started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        Future<String> second = executor.submit(() -> reader.read("all"));
+        awaitCoalesced(1);
+        target.release.countDown();
+
+        // Assert
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("rows for all");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("rows for all");
+        assertThat(target.reads).hasValue(1);
+        assertThat(calls("loaded")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("coalesce - Should read again for other arguments and after a committed write")
+    void coalesce_ShouldNotShare_AcrossArgumentsOrWrites() throws Exception {
+        // Arrange
+        Future<String> first = executor.submit(() -> reader.read("all"));
+        target.started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        Future<String> other = executor.submit(() -> reader.read("done"));
+        aspect.onTaskChanged(TaskChangedEvent.deleted(1L));
+        Future<String> afterWrite = executor.submit(() -> reader.read("all"));
+        target.release.countDown();
+
+        // Assert
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("rows for all");
+        assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("rows for done");
+        assertThat(afterWrite.get(5, TimeUnit.SECONDS)).isEqualTo("rows for all");
+        assertThat(target.reads).hasValue(3);
+        assertThat(meterRegistry.find("task.read.calls").tag("result", "coalesced").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("coalesce - Should not share a replica read with a call pinned to the primary")
+    void coalesce_ShouldNotShare_WithPinnedCall() throws Exception {
+        // Arrange
+        Future<String> unpinned = executor.submit(() -> reader.read("all"));
+        target.started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        Future<String> pinned = executor.submit(() -> ReadYourWrites.callPinned(() -> reader.read("all")));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.reads.get() < 2) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        target.release.countDown();
+
+        // Assert
+        assertThat(unpinned.get(5, TimeUnit.SECONDS)).isEqualTo("rows for all");
+        assertThat(pinned.get(5, TimeUnit.SECONDS)).isEqualTo("rows for all");
+        assertThat(calls("loaded")).isEqualTo(2);
+    }
+}
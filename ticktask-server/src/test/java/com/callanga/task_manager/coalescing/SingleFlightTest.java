@@ -0,0 +1,122 @@
+package com.callanga.task_manager.coalescing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SingleFlight.
+ * Each test holds the first load open on a latch until the other callers have arrived.
+ */
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<SingleFlight.Outcome> outcomes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch joined = new CountDownLatch(1);
+    private final SingleFlight<String> singleFlight = new SingleFlight<>((key, outcome) -> {
+        outcomes.add(outcome);
+        if (outcome == SingleFlight.Outcome.COALESCED) {
+            joined.countDown();
+        }
+    });
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private String blockingLoad() throws InterruptedException {
+        int load = loads.incrementAndGet();
+        started.countDown();
+        release.await(5, TimeUnit.SECONDS);
+        return "result-" + load;
+    }
+
+    private Future<String> call(String key, SingleFlight.Load<String> load) {
+        return executor.submit(() -> {
+            try {
+                return singleFlight.execute(key, load);
+            } catch (Exception | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("execute - Should share one running load between concurrent callers")
+    void execute_ShouldCoalesceConcurrentCalls() throws Throwable {
+        // Arrange
+        Future<String> leader = call("tasks", this::blockingLoad);
+        started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        Future<String> follower = call("tasks", this::blockingLoad);
+        joined.await(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        // Assert
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(loads).hasValue(1);
+        assertThat(outcomes).containsExactly(SingleFlight.Outcome.LOADED, SingleFlight.Outcome.COALESCED);
+        assertThat(singleFlight.execute("tasks", () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("execute - Should not share a load that started before an invalidation")
+    void execute_ShouldStartNewLoad_AfterInvalidate() throws Throwable {
+        // Arrange
+        Future<String> stale = call("tasks", this::blockingLoad);
+        started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        singleFlight.invalidate();
+        String fresh = singleFlight.execute("tasks", () -> "fresh");
+        release.countDown();
+
+        // Assert
+        assertThat(fresh).isEqualTo("fresh");
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(outcomes).containsOnly(SingleFlight.Outcome.LOADED);
+    }
+
+    @Test
+    @DisplayName("execute - Should give waiting callers the exception of the shared load")
+    void execute_ShouldPropagateFailure() throws Exception {
+        // Arrange
+        Future<String> leader = call("tasks", () -> {
+            blockingLoad();
+            throw new IllegalStateException("database down");
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        Future<String> follower = call("tasks", this::blockingLoad);
+        joined.await(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        // Assert
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .cause().isInstanceOf(IllegalStateException.class).hasMessage("database down");
+        assertThat(loads).hasValue(1);
+    }
+}
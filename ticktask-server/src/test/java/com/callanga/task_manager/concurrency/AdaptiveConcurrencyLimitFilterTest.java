@@ -0,0 +1,124 @@
+package com.callanga.task_manager.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimitFilter.
+ * The pool is never started; only its configured size is read.
+ */
+class AdaptiveConcurrencyLimitFilterTest {
+
+    private HikariDataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(1);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AdaptiveConcurrencyLimitFilter(dataSource, JsonMapper.builder().build(), meterRegistry, 1, 4, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private double rejected(String budget) {
+        return meterRegistry.get("task.concurrency.rejected").tag("budget", budget).counter().count();
+    }
+
+    @Test
+    @DisplayName("constructor - Should start both budgets at the pool size, within their maximum")
+    void constructor_ShouldStartAtPoolSize() {
+        dataSource.setMaximumPoolSize(10);
+
+        AdaptiveConcurrencyLimitFilter sized = new AdaptiveConcurrencyLimitFilter(dataSource,
+                JsonMapper.builder().build(), new SimpleMeterRegistry(), 2, 40, 5);
+
+        assertThat(sized.getReadLimit()).isEqualTo(10);
+        assertThat(sized.getWriteLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("doFilter - Should shed a read at once while the read budget is full, and still admit writes")
+    void doFilter_ShouldRejectReadsWhenReadBudgetFull() throws Exception {
+        // Arrange
+        MockHttpServletResponse nestedRead = new MockHttpServletResponse();
+        MockFilterChain nestedWriteChain = new MockFilterChain();
+        MockFilterChain holdingChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    // The only read slot is held here
+                    filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/2"), nestedRead,
+                            new MockFilterChain());
+                    filter.doFilter(new MockHttpServletRequest("PATCH", "/api/tasks/2"),
+                            new MockHttpServletResponse(), nestedWriteChain);
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+
+        // Act
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/1"), first, holdingChain);
+        MockFilterChain afterChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/3"), new MockHttpServletResponse(), afterChain);
+
+        // Assert
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(nestedRead.getStatus()).isEqualTo(503);
+        assertThat(nestedRead.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(nestedRead.getContentAsString()).contains("\"status\":503");
+        assertThat(nestedWriteChain.getRequest()).isNotNull();
+        assertThat(afterChain.getRequest()).isNotNull();
+        assertThat(rejected("read")).isEqualTo(1.0);
+        assertThat(rejected("write")).isZero();
+        assertThat(meterRegistry.get("task.concurrency.in-flight").tag("budget", "read").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("doFilter - Should not limit the event stream or non-API paths")
+    void doFilter_ShouldSkipEventStreamAndNonApiPaths() throws Exception {
+        // Arrange
+        MockFilterChain holdingChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    MockFilterChain events = new MockFilterChain();
+                    filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/events"),
+                            new MockHttpServletResponse(), events);
+                    MockFilterChain health = new MockFilterChain();
+                    filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"),
+                            new MockHttpServletResponse(), health);
+                    assertThat(events.getRequest()).isNotNull();
+                    assertThat(health.getRequest()).isNotNull();
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        };
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), holdingChain);
+
+        // Assert
+        assertThat(rejected("read")).isZero();
+    }
+}
@@ -0,0 +1,149 @@
+package com.callanga.task_manager.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Open-model overload benchmark for AdaptiveConcurrencyLimitFilter against a simulated backend:
+ * ten "connections", each request holding one for a fixed service time and giving up with 503
+ * after the pool's acquire timeout. Requests arrive at ten times the backend's capacity, with and
+ * without the filter in front; the latency of successful requests is printed side by side.
+ * Skipped by default; run with:
+ * {@code ./mvnw test -Dtest=AdaptiveConcurrencyOverloadBenchmarkTest -Dbenchmark=true}
+ * and tune with {@code -Dbenchmark.overload=10 -Dbenchmark.seconds=10}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AdaptiveConcurrencyOverloadBenchmarkTest {
+
+    private static final int CONNECTIONS = 10;
+    private static final Duration SERVICE_TIME = Duration.ofMillis(10);
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(1);
+    private static final int OVERLOAD = Integer.getInteger("benchmark.overload", 10);
+    private static final Duration MEASURE = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 10));
+
+    @Test
+    @DisplayName("The adaptive limit should keep admitted latency bounded at 10x overload")
+    void adaptiveLimit_ShouldBoundLatencyUnderOverload() throws Exception {
+        Result unlimited = run("unlimited", false);
+        Result limited = run("adaptive", true);
+
+        System.out.printf("%-10s %10s %9s %9s %9s %8s %9s%n",
+                "mode", "ok/s", "p50 ms", "p99 ms", "max ms", "shed", "timeouts");
+        for (Result result : List.of(unlimited, limited)) {
+            System.out.printf("%-10s %,10.0f %9.1f %9.1f %9.1f %8d %9d%n", result.mode(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.maxMillis(), result.shed(), result.timeouts());
+        }
+
+        double capacity = CONNECTIONS * 1000.0 / SERVICE_TIME.toMillis();
+        assertThat(limited.throughput()).isGreaterThan(capacity * 0.7);
+        assertThat(limited.p99Millis()).isLessThan(SERVICE_TIME.toMillis() * 10.0);
+        assertThat(limited.p99Millis()).isLessThan(unlimited.p99Millis() / 2);
+    }
+
+    private Result run(String mode, boolean limited) throws Exception {
+        Semaphore connections = new Semaphore(CONNECTIONS, true);
+        FilterChain backend = (request, response) -> {
+            try {
+                if (!connections.tryAcquire(ACQUIRE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    ((HttpServletResponse) response).setStatus(503);
+                    return;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                Thread.sleep(SERVICE_TIME);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                connections.release();
+            }
+        };
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(CONNECTIONS);
+            AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(dataSource,
+                    JsonMapper.builder().build(), new SimpleMeterRegistry(), 2, 40, 20);
+            FilterChain entry = limited ? (request, response) -> filter.doFilter(request, response, backend) : backend;
+
+            drive(entry, Duration.ofSeconds(3));
+            return drive(entry, MEASURE).withMode(mode);
+        }
+    }
+
+    /**
+     * Arrivals at {@link #OVERLOAD} times capacity on a fixed schedule, whatever the responses.
+     */
+    private static Result drive(FilterChain entry, Duration duration) throws Exception {
+        int perMillisecond = (int) (OVERLOAD * CONNECTIONS / SERVICE_TIME.toMillis());
+        ConcurrentLinkedQueue<Long> okNanos = new ConcurrentLinkedQueue<>();
+        AtomicLong shed = new AtomicLong();
+        AtomicLong timeouts = new AtomicLong();
+        long start = System.nanoTime();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long tick = 0; tick < duration.toMillis(); tick++) {
+                long due = start + TimeUnit.MILLISECONDS.toNanos(tick);
+                while (System.nanoTime() < due) {
+                    Thread.onSpinWait();
+                }
+                for (int i = 0; i < perMillisecond; i++) {
+                    requests.submit(() -> {
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+                        long sent = System.nanoTime();
+                        entry.doFilter(new MockHttpServletRequest("GET", "/api/tasks/1"), response);
+                        long took = System.nanoTime() - sent;
+                        if (response.getHeader("Retry-After") != null) {
+                            shed.incrementAndGet();
+                        } else if (response.getStatus() == 503) {
+                            timeouts.incrementAndGet();
+                        } else {
+                            okNanos.add(took);
+                        }
+                        return null;
+                    });
+                }
+            }
+        }
+        double seconds = duration.toNanos() / 1e9;
+        long[] ok = okNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(null, ok.length / seconds, percentile(ok, 0.50), percentile(ok, 0.99),
+                ok.length == 0 ? 0 : ok[ok.length - 1] / 1e6, shed.get(), timeouts.get());
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis, double maxMillis,
+                          long shed, long timeouts) {
+
+        Result withMode(String mode) {
+            return new Result(mode, throughput, p50Millis, p99Millis, maxMillis, shed, timeouts);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.callanga.task_manager.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AdaptiveLimit.
+ * Samples are fed with a synthetic clock, one full 20-sample window at a time.
+ */
+class AdaptiveLimitTest {
+
+    private long now;
+
+    private void window(AdaptiveLimit limit, double rttMillis, int inFlight, boolean overloaded) {
+        for (int i = 0; i < 20; i++) {
+            now += TimeUnit.MILLISECONDS.toNanos(6);
+            limit.onSample(now, (long) (rttMillis * 1_000_000), inFlight, overloaded && i == 0);
+        }
+    }
+
+    @Test
+    @DisplayName("onSample - Should grow while latency stays at the no-load level and the limit is in use")
+    void onSample_ShouldGrow_WhenLatencyIsSteady() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 40);
+        window(limit, 2, 10, false);
+
+        // Act
+        for (int i = 0; i < 40; i++) {
+            window(limit, 2, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("onSample - Should shrink when latency shows requests queueing")
+    void onSample_ShouldShrink_WhenLatencyRises() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(40, 2, 40);
+        window(limit, 2, 40, false);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            window(limit, 10, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isLessThan(30);
+    }
+
+    @Test
+    @DisplayName("onSample - Should cut the limit by a tenth on overload, but not below the minimum")
+    void onSample_ShouldBackOff_WhenOverloaded() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(20, 2, 40);
+
+        // Act
+        window(limit, 2, 20, true);
+        int afterOne = limit.getLimit();
+        for (int i = 0; i < 50; i++) {
+            window(limit, 2, 20, true);
+        }
+
+        // Assert
+        assertThat(afterOne).isEqualTo(18);
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("onSample - Should grow back from the minimum once an overload has passed")
+    void onSample_ShouldRecover_AfterOverload() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(20, 2, 40);
+        window(limit, 2, 20, false);
+        for (int i = 0; i < 30; i++) {
+            window(limit, 50, limit.getLimit(), true);
+        }
+        int bottom = limit.getLimit();
+
+        // Act
+        for (int i = 0; i < 40; i++) {
+            window(limit, 2, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertThat(bottom).isEqualTo(2);
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("onSample - Should not collapse under a steady mix of fast and slow reads")
+    void onSample_ShouldHold_WhenReadLatencyIsBimodal() {
+        // Arrange: four in five reads are cache hits, the rest list queries; latency does not
+        // depend on load, so nothing is queueing and the limit has no reason to shrink
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 40);
+        SplittableRandom random = new SplittableRandom(42);
+        int lowest = Integer.MAX_VALUE;
+
+        // Act
+        for (int w = 0; w < 1_000; w++) {
+            for (int i = 0; i < 20; i++) {
+                now += TimeUnit.MILLISECONDS.toNanos(6);
+                long rtt = random.nextInt(5) == 0 ? TimeUnit.MILLISECONDS.toNanos(20) : TimeUnit.MICROSECONDS.toNanos(200);
+                limit.onSample(now, rtt, limit.getLimit(), false);
+            }
+            if (w >= 100) {
+                lowest = Math.min(lowest, limit.getLimit());
+            }
+        }
+
+        // Assert: after ramping up, the limit stays near the maximum
+        assertThat(lowest).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("onSample - Should leave the limit alone while most of it is unused")
+    void onSample_ShouldHold_WhenAppLimited() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 40);
+        window(limit, 2, 2, false);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            window(limit, 20, 2, false);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,154 @@
+package com.callanga.task_manager.controller;
+
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for binary representations and response compression over real HTTP,
+ * since compression happens in Tomcat rather than in the MVC layer.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class TaskContentNegotiationTest {
+
+    private final ObjectMapper cbor = CBORMapper.builder().build();
+    private final ObjectMapper smile = SmileMapper.builder().build();
+
+    @LocalServerPort
+    private int port;
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks" + path));
+    }
+
+    @Test
+    @DisplayName("CBOR - Should accept and return CBOR bodies when negotiated")
+    void cbor_ShouldRoundTrip() throws Exception {
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            // Arrange
+            byte[] body = cbor.writeValueAsBytes(Map.of("title", "Binary task", "priority", "HIGH"));
+
+            // Act
+            HttpResponse<byte[]> created = http.send(request("")
+                    .header("Content-Type", "application/cbor")
+                    .header("Accept", "application/cbor")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build(), HttpResponse.BodyHandlers.ofByteArray());
+            TaskResponse task = cbor.readValue(created.body(), TaskResponse.class);
+            HttpResponse<byte[]> fetched = http.send(request("/" + task.getId())
+                    .header("Accept", "application/cbor")
+                    .build(), HttpResponse.BodyHandlers.ofByteArray());
+
+            // Assert
+            assertThat(created.statusCode()).isEqualTo(201);
+            assertThat(created.headers().firstValue("Content-Type")).hasValue("application/cbor");
+            assertThat(task.getTitle()).isEqualTo("Binary task");
+            // Tomcat lower-cases Vary when it adds Accept-Encoding while considering compression
+            assertThat(fetched.headers().allValues("Vary"))
+                    .anySatisfy(vary -> assertThat(vary.toLowerCase().split(",\\s*")).contains("accept"));
+            assertThat(cbor.readValue(fetched.body(), TaskResponse.class)).isEqualTo(task);
+        }
+    }
+
+    @Test
+    @DisplayName("Smile - Should return a smaller list than JSON; JSON stays the default")
+    void smile_ShouldBeSmallerThanJson() throws Exception {
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            // Arrange
+            http.send(request("")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Compact\"}"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+
+            // Act
+            HttpResponse<byte[]> json = http.send(request("").header("Accept", "*/*").build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            HttpResponse<byte[]> binary = http.send(request("").header("Accept", "application/x-jackson-smile").build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+
+            // Assert
+            assertThat(json.headers().firstValue("Content-Type")).hasValue("application/json");
+            assertThat(binary.headers().firstValue("Content-Type")).hasValue("application/x-jackson-smile");
+            List<TaskSummaryResponse> tasks = smile.readValue(binary.body(), new TypeReference<>() {
+            });
+            assertThat(tasks).extracting(TaskSummaryResponse::getTitle).contains("Compact");
+            assertThat(binary.body().length).isLessThan(json.body().length);
+        }
+    }
+
+    @Test
+    @DisplayName("gzip - Should compress lists for clients that accept it")
+    void gzip_ShouldCompressLargeResponses() throws Exception {
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            // Arrange
+            for (int i = 0; i < 30; i++) {
+                http.send(request("")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"title\":\"Compressed " + i + "\",\"description\":\"Repeated text compresses well\"}"))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+            }
+
+            // Act
+            HttpResponse<byte[]> list = http.send(request("").header("Accept-Encoding", "gzip").build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            HttpResponse<byte[]> identity = http.send(request("").build(), HttpResponse.BodyHandlers.ofByteArray());
+
+            // Assert
+            assertThat(list.headers().firstValue("Content-Encoding")).hasValue("gzip");
+            byte[] inflated = new GZIPInputStream(new ByteArrayInputStream(list.body())).readAllBytes();
+            assertThat(new String(inflated)).contains("Compressed 29");
+            assertThat(list.body().length).isLessThan(inflated.length / 3);
+            assertThat(list.headers().firstValue("ETag")).hasValueSatisfying(etag -> assertThat(etag).startsWith("W/"));
+            assertThat(identity.headers().firstValue("Content-Encoding")).isEmpty();
+            assertThat(identity.body()).isEqualTo(inflated);
+        }
+    }
+
+    @Test
+    @DisplayName("gzip - Should compress a single task over the minimum size")
+    void gzip_ShouldCompressLargeTask() throws Exception {
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            // Arrange
+            String description = "A long description that compresses well. ".repeat(100);
+            HttpResponse<String> created = http.send(request("")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"title\":\"Large\",\"description\":\"" + description + "\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Number id = JsonPath.read(created.body(), "$.id");
+
+            // Act
+            HttpResponse<byte[]> task = http.send(request("/" + id).header("Accept-Encoding", "gzip").build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+
+            // Assert
+            assertThat(description.length()).isGreaterThan(2048);
+            assertThat(task.headers().firstValue("Content-Encoding")).hasValue("gzip");
+            assertThat(task.headers().firstValue("ETag")).hasValue("W/\"0\"");
+            byte[] inflated = new GZIPInputStream(new ByteArrayInputStream(task.body())).readAllBytes();
+            assertThat(new String(inflated)).contains(description);
+        }
+    }
+}
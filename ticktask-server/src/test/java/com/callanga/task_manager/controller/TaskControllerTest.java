@@ -1,11 +1,30 @@
 package com.callanga.task_manager.controller;
 
+import com.callanga.task_manager.dto.TaskBatchOperation;
+import com.callanga.task_manager.dto.TaskBatchResponse;
+import com.callanga.task_manager.dto.TaskBatchResult;
+import com.callanga.task_manager.dto.TaskChangesResponse;
+import com.callanga.task_manager.dto.TaskField;
+import com.callanga.task_manager.dto.TaskPageResponse;
+import com.callanga.task_manager.dto.TaskQuery;
 import com.callanga.task_manager.dto.TaskRequest;
 import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSliceResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
 import com.callanga.task_manager.entity.Priority;
 import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.event.TaskEventBroadcaster;
+import com.callanga.task_manager.exception.ChangeTokenExpiredException;
 import com.callanga.task_manager.exception.GlobalExceptionHandler;
+import com.callanga.task_manager.exception.InvalidCursorException;
+import com.callanga.task_manager.exception.InvalidTaskPatchException;
+import com.callanga.task_manager.exception.InvalidTaskQueryException;
 import com.callanga.task_manager.exception.TaskNotFoundException;
+import com.callanga.task_manager.exception.TaskVersionConflictException;
+import com.callanga.task_manager.service.TaskBatchService;
+import com.callanga.task_manager.service.TaskChangeService;
+import com.callanga.task_manager.service.TaskExportFormat;
+import com.callanga.task_manager.service.TaskExportService;
 import com.callanga.task_manager.service.TaskService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,18 +35,30 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.test.json.JsonCompareMode;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +76,18 @@ class TaskControllerTest {
         @Mock
         private TaskService taskService;
 
+        @Mock
+        private TaskBatchService taskBatchService;
+
+        @Mock
+        private TaskExportService taskExportService;
+
+        @Mock
+        private TaskChangeService taskChangeService;
+
+        @Mock
+        private TaskEventBroadcaster taskEventBroadcaster;
+
         @InjectMocks
         private TaskController taskController;
 
@@ -59,6 +102,18 @@ class TaskControllerTest {
                 objectMapper.registerModule(new JavaTimeModule());
         }
 
+        private TaskSummaryResponse createSampleTaskSummary(Long id, String title) {
+                return TaskSummaryResponse.builder()
+                                .id(id)
+                                .title(title)
+                                .descriptionPreview("Test description")
+                                .status(TaskStatus.TODO)
+                                .priority(Priority.MEDIUM)
+                                .createdAt(LocalDateTime.now())
+                                .updatedAt(LocalDateTime.now())
+                                .build();
+        }
+
         private TaskResponse createSampleTaskResponse(Long id, String title) {
                 return TaskResponse.builder()
                                 .id(id)
@@ -116,25 +171,339 @@ class TaskControllerTest {
         }
 
         @Test
-        @DisplayName("GET /api/tasks - Should return all tasks")
+        @DisplayName("POST /api/tasks/batch - Should return per-item results")
+        void executeBatch_ShouldReturnResults() throws Exception {
+                // Arrange
+                List<TaskBatchOperation> operations = List.of(
+                                TaskBatchOperation.builder()
+                                                .op(TaskBatchOperation.Type.CREATE)
+                                                .task(TaskRequest.builder().title("Imported").build())
+                                                .build(),
+                                TaskBatchOperation.builder().op(TaskBatchOperation.Type.DELETE).id(5L).build());
+                TaskBatchResponse response = TaskBatchResponse.builder()
+                                .results(List.of(
+                                                TaskBatchResult.builder().index(0).op(TaskBatchOperation.Type.CREATE)
+                                                                .id(1L).status(201)
+                                                                .task(createSampleTaskResponse(1L, "Imported")).build(),
+                                                TaskBatchResult.builder().index(1).op(TaskBatchOperation.Type.DELETE)
+                                                                .id(5L).status(404)
+                                                                .errors(Map.of("id", "Task not found with id: 5"))
+                                                                .build()))
+                                .succeeded(1)
+                                .failed(1)
+                                .build();
+
+                when(taskBatchService.execute(anyList())).thenReturn(response);
+
+                // Act & Assert
+                mockMvc.perform(post("/api/tasks/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(operations)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.results", hasSize(2)))
+                                .andExpect(jsonPath("$.results[0].status", is(201)))
+                                .andExpect(jsonPath("$.results[0].task.title", is("Imported")))
+                                .andExpect(jsonPath("$.results[1].errors.id", containsString("5")))
+                                .andExpect(jsonPath("$.results[1].task").doesNotExist())
+                                .andExpect(jsonPath("$.failed", is(1)));
+
+                verify(taskBatchService).execute(argThat(ops -> ops.size() == 2
+                                && ops.get(1).getOp() == TaskBatchOperation.Type.DELETE));
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks - Should return summaries without the full description")
         void getAllTasks_ShouldReturnListOfTasks() throws Exception {
                 // Arrange
-                List<TaskResponse> tasks = Arrays.asList(
-                                createSampleTaskResponse(1L, "Task 1"),
-                                createSampleTaskResponse(2L, "Task 2"));
+                List<TaskSummaryResponse> tasks = Arrays.asList(
+                                createSampleTaskSummary(1L, "Task 1"),
+                                createSampleTaskSummary(2L, "Task 2"));
 
+                when(taskService.getTaskListETag()).thenReturn("2-abc");
                 when(taskService.getAllTasks()).thenReturn(tasks);
 
                 // Act & Assert
                 mockMvc.perform(get("/api/tasks"))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"2-abc\""))
                                 .andExpect(jsonPath("$", hasSize(2)))
                                 .andExpect(jsonPath("$[0].title", is("Task 1")))
-                                .andExpect(jsonPath("$[1].title", is("Task 2")));
+                                .andExpect(jsonPath("$[1].title", is("Task 2")))
+                                .andExpect(jsonPath("$[0].descriptionPreview", is("Test description")))
+                                .andExpect(jsonPath("$[0].descriptionTruncated", is(false)))
+                                .andExpect(jsonPath("$[0].description").doesNotExist());
 
                 verify(taskService, times(1)).getAllTasks();
         }
 
+        @Test
+        @DisplayName("GET /api/tasks?fields= - Should return only the requested fields")
+        void getAllTaskFields_ShouldReturnRequestedFields() throws Exception {
+                // Arrange
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", 1L);
+                row.put("status", TaskStatus.TODO);
+                when(taskService.getTaskListETag()).thenReturn("1-abc");
+                when(taskService.getAllTasks(EnumSet.of(TaskField.ID, TaskField.STATUS))).thenReturn(List.of(row));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks").param("fields", "status,id"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"1-abc\""))
+                                .andExpect(jsonPath("$[0].id", is(1)))
+                                .andExpect(jsonPath("$[0].status", is("TODO")))
+                                .andExpect(jsonPath("$[0].title").doesNotExist());
+
+                verify(taskService, never()).getAllTasks();
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks?fields= - Should return 400 for an unknown field")
+        void getAllTaskFields_ShouldReturnBadRequest_WhenFieldUnknown() throws Exception {
+                mockMvc.perform(get("/api/tasks").param("fields", "id,owner"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message", containsString("owner")));
+
+                verifyNoInteractions(taskService);
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/{id}?fields= - Should project the cached task onto the requested fields")
+        void getTaskFields_ShouldReturnRequestedFields() throws Exception {
+                // Arrange
+                TaskResponse task = createSampleTaskResponse(1L, "Widget");
+                task.setVersion(3L);
+                when(taskService.getTask(1L)).thenReturn(task);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/1").param("fields", "title,id"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"3\""))
+                                .andExpect(content().json("{\"id\":1,\"title\":\"Widget\"}", JsonCompareMode.STRICT));
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/page - Should return page with next cursor")
+        void getTaskPage_ShouldReturnPage() throws Exception {
+                // Arrange
+                TaskPageResponse<TaskSummaryResponse> page = TaskPageResponse.<TaskSummaryResponse>builder()
+                                .items(List.of(createSampleTaskSummary(1L, "Task 1")))
+                                .nextCursor("abc")
+                                .limit(1)
+                                .build();
+
+                when(taskService.getTaskPage("xyz", 1)).thenReturn(page);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/page").param("cursor", "xyz").param("limit", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items", hasSize(1)))
+                                .andExpect(jsonPath("$.items[0].title", is("Task 1")))
+                                .andExpect(jsonPath("$.nextCursor", is("abc")))
+                                .andExpect(jsonPath("$.limit", is(1)));
+
+                verify(taskService, times(1)).getTaskPage("xyz", 1);
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/page - Should return 400 when cursor is invalid")
+        void getTaskPage_ShouldReturnBadRequest_WhenCursorInvalid() throws Exception {
+                // Arrange
+                when(taskService.getTaskPage("bad", null)).thenThrow(new InvalidCursorException("bad"));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/page").param("cursor", "bad"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message", containsString("bad")));
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/query - Should bind filters and return slice")
+        void queryTasks_ShouldBindFilters() throws Exception {
+                // Arrange
+                TaskSliceResponse<TaskResponse> slice = TaskSliceResponse.<TaskResponse>builder()
+                                .items(List.of(createSampleTaskResponse(1L, "Report")))
+                                .page(0)
+                                .size(50)
+                                .hasNext(false)
+                                .build();
+
+                when(taskService.queryTasks(any(TaskQuery.class))).thenReturn(slice);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/query")
+                                .param("status", "TODO", "IN_PROGRESS")
+                                .param("priority", "HIGH")
+                                .param("dueFrom", "2025-01-01")
+                                .param("title", "rep")
+                                .param("sort", "dueDate,desc"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items", hasSize(1)))
+                                .andExpect(jsonPath("$.hasNext", is(false)));
+
+                verify(taskService).queryTasks(argThat(query ->
+                                query.getStatus().equals(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                                                && query.getPriority().equals(Set.of(Priority.HIGH))
+                                                && query.getDueFrom().equals(LocalDate.of(2025, 1, 1))
+                                                && query.getTitle().equals("rep")
+                                                && query.getSort().equals("dueDate,desc")));
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/query - Should return 400 when query is invalid")
+        void queryTasks_ShouldReturnBadRequest_WhenQueryInvalid() throws Exception {
+                // Arrange
+                when(taskService.queryTasks(any(TaskQuery.class)))
+                                .thenThrow(new InvalidTaskQueryException("Unsupported sort"));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/query").param("sort", "description"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message", is("Unsupported sort")));
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/export - Should stream export as attachment")
+        void exportTasks_ShouldStreamCsv() throws Exception {
+                // Arrange
+                doAnswer(invocation -> {
+                        OutputStream out = invocation.getArgument(1);
+                        out.write("id,title\n1,Task 1\n".getBytes(StandardCharsets.UTF_8));
+                        return null;
+                }).when(taskExportService).export(eq(TaskExportFormat.CSV), any(OutputStream.class));
+
+                // Act
+                MvcResult result = mockMvc.perform(get("/api/tasks/export").param("format", "csv"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                // Assert
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Type", "text/csv"))
+                                .andExpect(header().string("Content-Disposition", containsString("tasks.csv")))
+                                .andExpect(content().string("id,title\n1,Task 1\n"));
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/export - Should return 400 for unknown format")
+        void exportTasks_ShouldReturnBadRequest_WhenFormatUnknown() throws Exception {
+                mockMvc.perform(get("/api/tasks/export").param("format", "xml"))
+                                .andExpect(status().isBadRequest());
+
+                verifyNoInteractions(taskExportService);
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/search - Should return ranked matches")
+        void searchTasks_ShouldReturnMatches() throws Exception {
+                // Arrange
+                when(taskService.searchTasks("report", 5))
+                                .thenReturn(List.of(createSampleTaskResponse(3L, "Quarterly report")));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/search").param("q", "report").param("limit", "5"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andExpect(jsonPath("$[0].id", is(3)));
+
+                verify(taskService, times(1)).searchTasks("report", 5);
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks - Should return 304 without loading tasks when ETag matches")
+        void getAllTasks_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+                // Arrange
+                when(taskService.getTaskListETag()).thenReturn("2-abc");
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks").header("If-None-Match", "\"2-abc\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "W/\"2-abc\""))
+                                .andExpect(content().string(""));
+
+                verify(taskService, never()).getAllTasks();
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/changes - Should return changes since the token")
+        void getChanges_ShouldReturnChanges() throws Exception {
+                // Arrange
+                TaskChangesResponse changes = TaskChangesResponse.builder()
+                                .updated(List.of(createSampleTaskResponse(1L, "Task 1")))
+                                .deleted(List.of(2L))
+                                .nextToken("next")
+                                .hasMore(false)
+                                .build();
+                when(taskChangeService.getChanges("token", 100)).thenReturn(changes);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/changes").param("since", "token").param("limit", "100"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.updated[0].id", is(1)))
+                                .andExpect(jsonPath("$.deleted[0]", is(2)))
+                                .andExpect(jsonPath("$.nextToken", is("next")))
+                                .andExpect(jsonPath("$.hasMore", is(false)));
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/changes - Should return 410 when the token has expired")
+        void getChanges_ShouldReturnGone_WhenTokenExpired() throws Exception {
+                // Arrange
+                when(taskChangeService.getChanges("old", null)).thenThrow(new ChangeTokenExpiredException());
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/changes").param("since", "old"))
+                                .andExpect(status().isGone())
+                                .andExpect(jsonPath("$.message", containsString("resync")));
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/events - Should open an event stream resuming from Last-Event-ID")
+        void streamEvents_ShouldOpenEventStream() throws Exception {
+                // Arrange
+                when(taskEventBroadcaster.subscribe("abc-3")).thenReturn(new SseEmitter());
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/events").header("Last-Event-ID", "abc-3"))
+                                .andExpect(request().asyncStarted());
+
+                verify(taskEventBroadcaster).subscribe("abc-3");
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/events - Should return 503 when the subscriber limit is reached")
+        void streamEvents_ShouldReturnServiceUnavailable_WhenFull() throws Exception {
+                // Arrange
+                when(taskEventBroadcaster.subscribe(null)).thenReturn(null);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/events"))
+                                .andExpect(status().isServiceUnavailable());
+        }
+
+        @Test
+        @DisplayName("GET /api/tasks/{id} - Should return 304 when version ETag matches")
+        void getTask_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+                // Arrange
+                TaskResponse response = createSampleTaskResponse(1L, "Test Task");
+                response.setVersion(3L);
+                when(taskService.getTask(1L)).thenReturn(response);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"3\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+
+                mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "W/\"3\""))
+                                .andExpect(status().isNotModified());
+
+                mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"2\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"3\""))
+                                .andExpect(jsonPath("$.version", is(3)));
+        }
+
         @Test
         @DisplayName("GET /api/tasks/{id} - Should return task by ID")
         void getTask_ShouldReturnTask() throws Exception {
@@ -166,6 +535,20 @@ class TaskControllerTest {
                 verify(taskService, times(1)).getTask(999L);
         }
 
+        @Test
+        @DisplayName("GET /api/tasks/{id} - Should return 503 with Retry-After when no connection is available")
+        void getTask_ShouldReturnServiceUnavailable_WhenPoolExhausted() throws Exception {
+                // Arrange
+                when(taskService.getTask(1L)).thenThrow(new CannotCreateTransactionException(
+                                "Could not open JPA EntityManager for transaction"));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/tasks/1"))
+                                .andExpect(status().isServiceUnavailable())
+                                .andExpect(header().string("Retry-After", "1"))
+                                .andExpect(jsonPath("$.status").value(503));
+        }
+
         @Test
         @DisplayName("PUT /api/tasks/{id} - Should update existing task")
         void updateTask_ShouldReturnUpdatedTask() throws Exception {
@@ -200,6 +583,64 @@ class TaskControllerTest {
                 verify(taskService, times(1)).updateTask(eq(1L), any(TaskRequest.class));
         }
 
+        @Test
+        @DisplayName("PATCH /api/tasks/{id} - Should apply merge patch conditionally on If-Match")
+        void patchTask_ShouldReturnPatchedTask() throws Exception {
+                // Arrange
+                TaskResponse response = TaskResponse.builder()
+                                .id(1L)
+                                .title("Test Task")
+                                .status(TaskStatus.DONE)
+                                .priority(Priority.MEDIUM)
+                                .version(4L)
+                                .build();
+
+                when(taskService.patchTask(1L, Map.of("status", "DONE"), 3L)).thenReturn(response);
+
+                // Act & Assert
+                mockMvc.perform(patch("/api/tasks/1")
+                                .contentType("application/merge-patch+json")
+                                .header("If-Match", "\"3\"")
+                                .content("{\"status\":\"DONE\"}"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"4\""))
+                                .andExpect(jsonPath("$.status", is("DONE")));
+
+                verify(taskService, times(1)).patchTask(1L, Map.of("status", "DONE"), 3L);
+        }
+
+        @Test
+        @DisplayName("PATCH /api/tasks/{id} - Should return 409 with current ETag on version conflict")
+        void patchTask_ShouldReturnConflict_WhenVersionIsStale() throws Exception {
+                // Arrange
+                when(taskService.patchTask(eq(1L), any(), eq(3L)))
+                                .thenThrow(new TaskVersionConflictException(1L, 3L, 5L));
+
+                // Act & Assert
+                mockMvc.perform(patch("/api/tasks/1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header("If-Match", "\"3\"")
+                                .content("{\"title\":\"New\"}"))
+                                .andExpect(status().isConflict())
+                                .andExpect(header().string("ETag", "W/\"5\""))
+                                .andExpect(jsonPath("$.error", is("Conflict")));
+        }
+
+        @Test
+        @DisplayName("PATCH /api/tasks/{id} - Should return 400 with field errors for invalid patch")
+        void patchTask_ShouldReturnBadRequest_WhenPatchIsInvalid() throws Exception {
+                // Arrange
+                when(taskService.patchTask(eq(1L), any(), isNull()))
+                                .thenThrow(new InvalidTaskPatchException(Map.of("title", "must not be null")));
+
+                // Act & Assert
+                mockMvc.perform(patch("/api/tasks/1")
+                                .contentType("application/merge-patch+json")
+                                .content("{\"title\":null}"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.errors.title", is("must not be null")));
+        }
+
         @Test
         @DisplayName("DELETE /api/tasks/{id} - Should delete task")
         void deleteTask_ShouldReturnNoContent() throws Exception {
@@ -0,0 +1,143 @@
+package com.callanga.task_manager.controller;
+
+import com.callanga.task_manager.config.CacheConfig;
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.jdbc.SqlStatementBudgetFilter;
+import com.callanga.task_manager.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.callanga.task_manager.support.SqlStatementAssertions.assertThatSql;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests pinning the number of SQL statements each endpoint executes on embedded H2,
+ * so a change that adds a query to a request shows up as a failing count.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskEndpointStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TaskResponse task;
+
+    @BeforeEach
+    void setUp() {
+        task = taskService.createTask(TaskRequest.builder().title("Counted").description("Body").build());
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} - Should run one query on a cache miss and none on a hit")
+    void getTask_ShouldQueryOnce_ThenServeFromCache() {
+        assertThatSql(() -> mockMvc.perform(get("/api/tasks/{id}", task.getId())).andExpect(status().isOk()))
+                .hasSize(1);
+        assertThatSql(() -> mockMvc.perform(get("/api/tasks/{id}", task.getId())).andExpect(status().isOk()))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks - Should read the list version and run a list query that cuts the description")
+    void getAllTasks_ShouldRunTwoStatements() {
+        assertThatSql(() -> mockMvc.perform(get("/api/tasks")).andExpect(status().isOk()))
+                .hasSize(2)
+                .last().asString().containsIgnoringCase("substring(");
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/page - Should run one keyset query")
+    void getTaskPage_ShouldRunOneStatement() {
+        assertThatSql(() -> mockMvc.perform(get("/api/tasks/page")).andExpect(status().isOk()))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/page?fields= - Should select only the requested and keyset columns")
+    void getTaskPageFields_ShouldSelectOnlyRequestedColumns() {
+        assertThatSql(() -> mockMvc.perform(get("/api/tasks/page").param("fields", "title,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").exists())
+                .andExpect(jsonPath("$.items[0].id").doesNotExist()))
+                .singleElement().asString()
+                .doesNotContainIgnoringCase("description")
+                .doesNotContainIgnoringCase("priority");
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/changes - Should read changed tasks and tombstones")
+    void getChanges_ShouldRunTwoStatements() {
+        assertThatSql(() -> mockMvc.perform(get("/api/tasks/changes")).andExpect(status().isOk()))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("PUT /api/tasks/{id} - Should run one UPDATE plus the list version bump")
+    void updateTask_ShouldRunTwoStatements() {
+        assertThatSql(() -> mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isOk()))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/tasks/{id} - Should run one UPDATE plus the list version bump")
+    void patchTask_ShouldRunTwoStatements() {
+        assertThatSql(() -> mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk()))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/tasks/{id} - Should run the DELETE, the tombstone insert and the list version bump")
+    void deleteTask_ShouldRunThreeStatements() {
+        assertThatSql(() -> mockMvc.perform(delete("/api/tasks/{id}", task.getId()))
+                .andExpect(status().isNoContent()))
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Server-Timing - Should report the statement count and database time")
+    void request_ShouldReportServerTiming() throws Exception {
+        mockMvc.perform(get("/api/tasks/page"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatementBudgetFilter.SERVER_TIMING,
+                        matchesPattern("db;desc=\"1 statements\";dur=\\d+\\.\\d{2}")));
+    }
+
+    @Test
+    @DisplayName("Server-Timing - Should be sent on error responses")
+    void errorResponse_ShouldReportServerTiming() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(SqlStatementBudgetFilter.SERVER_TIMING,
+                        matchesPattern("db;desc=\"1 statements\";dur=.*")));
+    }
+}
@@ -0,0 +1,191 @@
+package com.callanga.task_manager.event;
+
+import com.callanga.task_manager.dto.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskEventBroadcaster.
+ * Emitters record the SSE text they would write instead of writing to a response.
+ */
+class TaskEventBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TestBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new TestBroadcaster(4, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    private static TaskChangedEvent updated(long id) {
+        return TaskChangedEvent.updated(TaskResponse.builder().id(id).title("Task " + id).build());
+    }
+
+    private static String idOf(String message) {
+        return message.lines().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - Should push named events with ids and task JSON to every subscriber")
+    void onTaskChanged_ShouldFanOutToSubscribers() throws Exception {
+        // Arrange
+        broadcaster.subscribe(null);
+        broadcaster.subscribe(null);
+
+        // Act
+        broadcaster.onTaskChanged(updated(1L));
+        broadcaster.onTaskChanged(TaskChangedEvent.deleted(2L));
+
+        // Assert
+        for (RecordingEmitter emitter : broadcaster.emitters) {
+            String first = emitter.next();
+            assertThat(first).contains("event:updated").contains("\"taskId\":1").contains("\"title\":\"Task 1\"");
+            assertThat(emitter.next()).contains("event:deleted").contains("\"taskId\":2");
+        }
+    }
+
+    @Test
+    @DisplayName("subscribe - Should replay events after Last-Event-ID, or ask an unknown id to resync")
+    void subscribe_ShouldReplayAfterLastEventId() throws Exception {
+        // Arrange
+        broadcaster.subscribe(null);
+        broadcaster.onTaskChanged(updated(1L));
+        broadcaster.onTaskChanged(updated(2L));
+        broadcaster.onTaskChanged(updated(3L));
+        RecordingEmitter live = broadcaster.emitters.get(0);
+        String firstId = idOf(live.next());
+
+        // Act
+        broadcaster.subscribe(firstId);
+        broadcaster.subscribe("other-process-7");
+
+        // Assert
+        RecordingEmitter resumed = broadcaster.emitters.get(1);
+        assertThat(resumed.next()).contains("\"taskId\":2");
+        assertThat(resumed.next()).contains("\"taskId\":3");
+        assertThat(broadcaster.emitters.get(2).next()).contains("event:" + TaskEventBroadcaster.RESYNC_EVENT);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - Should drop a subscriber whose buffer overflows without affecting others")
+    void onTaskChanged_ShouldDropSlowSubscriber() throws Exception {
+        // Arrange
+        broadcaster.subscribe(null);
+        broadcaster.subscribe(null);
+        RecordingEmitter slow = broadcaster.emitters.get(0);
+        RecordingEmitter fast = broadcaster.emitters.get(1);
+        slow.block();
+
+        // Act: one event is in flight on the blocked sender, four more fill its buffer, the sixth overflows
+        List<String> received = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            broadcaster.onTaskChanged(updated(id));
+            if (id == 1) {
+                slow.awaitSending();
+            }
+            received.add(fast.next());
+        }
+
+        // Assert
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(slow.completed).isTrue();
+        assertThat(meterRegistry.get("task.events.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(received).allMatch(message -> message.contains("event:updated"));
+    }
+
+    @Test
+    @DisplayName("heartbeat - Should send a comment to idle subscribers")
+    void heartbeat_ShouldSendComment() throws Exception {
+        broadcaster.subscribe(null);
+
+        broadcaster.heartbeat();
+
+        assertThat(broadcaster.emitters.get(0).next()).startsWith(":");
+    }
+
+    private final class TestBroadcaster extends TaskEventBroadcaster {
+
+        final List<RecordingEmitter> emitters = new ArrayList<>();
+
+        TestBroadcaster(int bufferSize, int replaySize) {
+            super(JsonMapper.builder().build(), meterRegistry, bufferSize, replaySize, Duration.ofMinutes(1), 100);
+        }
+
+        @Override
+        protected SseEmitter createEmitter(long timeoutMillis) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            CountDownLatch blocker = gate;
+            if (blocker != null) {
+                try {
+                    blocker.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            CountDownLatch blocker = gate;
+            if (blocker != null) {
+                blocker.countDown();
+            }
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void awaitSending() throws InterruptedException {
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        String next() throws InterruptedException {
+            String message = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(message).as("SSE message").isNotNull();
+            return message;
+        }
+    }
+}
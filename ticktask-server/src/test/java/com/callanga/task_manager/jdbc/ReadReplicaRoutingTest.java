@@ -0,0 +1,133 @@
+package com.callanga.task_manager.jdbc;
+
+import com.callanga.task_manager.config.CacheConfig;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for read replica routing, with two embedded H2 databases standing in for the
+ * primary and a replica that never receives the primary's writes, plus a replica that is down.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "task.datasource.replicas.urls=" + ReadReplicaRoutingTest.REPLICA_URL + ",jdbc:h2:tcp://localhost:1/down",
+        "task.datasource.replicas.connection-timeout=250ms",
+        "task.datasource.replicas.eject-duration=10m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Give the replica the primary's schema but none of its tasks
+        List<String> schema = jdbcTemplate.queryForList("SCRIPT NODATA", String.class);
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : schema) {
+                statement.execute(sql);
+            }
+            statement.execute("INSERT INTO task_list_version (id, version) VALUES (1, 0)");
+        }
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).clear();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} - Should read the replica, or the primary within the read-your-writes window")
+    void getTask_ShouldReadReplicaUnlessClientJustWrote() throws Exception {
+        // Arrange
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Routed\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Cookie cookie = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        Number id = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).clear();
+        entityManagerFactory.getCache().evictAll();
+
+        // Act & Assert
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.isHttpOnly()).isTrue();
+        mockMvc.perform(get("/api/tasks/{id}", id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks/{id}", id).cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Routed"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks - Should ignore a read-your-writes cookie longer than the window")
+    void getAllTasks_ShouldIgnoreForgedCookie() throws Exception {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO tasks (id, title, status, priority, version, created_at, updated_at) "
+                + "VALUES (NEXT VALUE FOR tasks_seq, 'Primary only', 'TODO', 'MEDIUM', 0, NOW(), NOW())");
+        Cookie forged = new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(Long.MAX_VALUE));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").cookie(forged))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Replica ejection - Should take a replica that cannot connect out of rotation")
+    void unavailableReplica_ShouldBeEjected() throws Exception {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(get("/api/tasks/page")).andExpect(status().isOk());
+        }
+
+        // Assert
+        assertThat(meterRegistry.get("task.datasource.replica.ejections").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("task.datasource.replicas.available").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("task.datasource.read-only.connections").tag("route", "replica")
+                .functionCounter().count()).isGreaterThanOrEqualTo(4);
+        assertThat(meterRegistry.get("task.datasource.read-only.connections").tag("route", "fallback")
+                .functionCounter().count()).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.callanga.task_manager.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReadYourWrites.
+ */
+class ReadYourWritesTest {
+
+    private final ExecutorService pool = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        pool.shutdownNow();
+    }
+
+    private boolean pinnedOn(Executor executor) throws Exception {
+        return CompletableFuture.supplyAsync(ReadYourWrites::isPinned, executor).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("propagating - Should run the task pinned when the submitting thread is pinned")
+    void propagating_ShouldCarryPin() throws Exception {
+        // Arrange
+        Executor executor = ReadYourWrites.propagating(pool);
+        ReadYourWrites.pin();
+
+        // Act
+        boolean pinned = pinnedOn(executor);
+        ReadYourWrites.clear();
+        boolean pinnedAfter = pinnedOn(executor);
+
+        // Assert
+        assertThat(pinned).isTrue();
+        assertThat(pinnedAfter).isFalse();
+    }
+
+    @Test
+    @DisplayName("callPinned - Should pin only for the call and keep an outer pin")
+    void callPinned_ShouldRestorePreviousState() throws Exception {
+        // Act
+        boolean inside = ReadYourWrites.callPinned(ReadYourWrites::isPinned);
+        boolean outside = ReadYourWrites.isPinned();
+        ReadYourWrites.pin();
+        ReadYourWrites.callPinned(ReadYourWrites::isPinned);
+
+        // Assert
+        assertThat(inside).isTrue();
+        assertThat(outside).isFalse();
+        assertThat(ReadYourWrites.isPinned()).isTrue();
+    }
+}
@@ -0,0 +1,89 @@
+package com.callanga.task_manager.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SqlStatementBudgetFilter.
+ * Statements are reported straight to the tracker; no DataSource is involved.
+ */
+class SqlStatementBudgetFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlStatementBudgetFilter(meterRegistry, 3, 3);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks");
+        return request;
+    }
+
+    @Test
+    @DisplayName("doFilter - Should add Server-Timing and record per-endpoint metrics")
+    void doFilter_ShouldReportStatements() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request(), response, (req, res) -> {
+            SqlStatementTracker.record("select 1", 2_000_000);
+            SqlStatementTracker.record("select 2", 1_500_000);
+            res.getWriter().write("[]");
+        });
+
+        // Assert
+        assertThat(response.getHeader(SqlStatementBudgetFilter.SERVER_TIMING))
+                .isEqualTo("db;desc=\"2 statements\";dur=3.50");
+        assertThat(meterRegistry.get("task.sql.statements").tag("uri", "/api/tasks").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(meterRegistry.find("task.sql.budget.exceeded").counter()).isNull();
+        assertThat(SqlStatementTracker.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("doFilter - Should count requests over the statement budget")
+    void doFilter_ShouldCountBudgetOverrun() throws Exception {
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 4; i++) {
+                SqlStatementTracker.record("select * from tasks where id = ?", 1_000);
+            }
+        });
+
+        // Assert
+        assertThat(meterRegistry.get("task.sql.budget.exceeded").tag("uri", "/api/tasks").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("capture - Should count statements towards every open scope")
+    void capture_ShouldCountTowardsEnclosingScopes() {
+        // Act
+        SqlStatementStats outer = SqlStatementTracker.capture(() -> {
+            SqlStatementTracker.record("select 1", 0);
+            SqlStatementTracker.capture(() -> SqlStatementTracker.record("select 2", 0));
+            SqlStatementTracker.record("select 2", 0);
+            SqlStatementTracker.record("select 2", 0);
+        });
+
+        // Assert
+        assertThat(outer.getStatements()).containsExactly("select 1", "select 2", "select 2", "select 2");
+        assertThat(outer.getRepeated(3)).isEqualTo(Map.of("select 2", 3));
+        assertThat(SqlStatementTracker.isActive()).isFalse();
+    }
+}
@@ -0,0 +1,281 @@
+package com.callanga.task_manager.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model HTTP load generator for {@code /api/tasks}.
+ *
+ * <p>Requests are scheduled at a fixed arrival rate regardless of how fast responses come back,
+ * and each one is sent on its own virtual thread. Latency is measured from the request's
+ * scheduled start rather than the moment it was sent, so a stalled server or a lagging scheduler
+ * shows up in the tail instead of silently lowering the offered load (coordinated omission).
+ * Latencies are recorded per operation in HdrHistograms with three significant digits.
+ * Requests dropped at the in-flight cap count as errors at the highest trackable latency, and a
+ * report with any drops is marked invalid.
+ */
+class TaskLoadGenerator {
+
+    /**
+     * One kind of request in the workload mix, named as in {@code -Dload.mix}.
+     */
+    enum Operation {
+        READ, LIST, CREATE, UPDATE, PATCH, DELETE
+    }
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Map<Operation, Integer> mix;
+    private final int maxInFlight;
+    private final TaskIdPool ids = new TaskIdPool();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    TaskLoadGenerator(HttpClient http, String baseUrl, Map<Operation, Integer> mix, int maxInFlight) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.maxInFlight = maxInFlight;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    /**
+     * Parse a mix such as {@code read:60,list:5,create:10} into operation weights.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            weights.put(Operation.valueOf(entry[0].trim().toUpperCase()), Integer.parseInt(entry[1].trim()));
+        }
+        return weights;
+    }
+
+    /**
+     * Create tasks for the workload to read, update and delete.
+     */
+    void seed(int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            HttpResponse<String> response = http.send(json(baseUrl, "POST",
+                    "{\"title\":\"Seed " + i + "\",\"description\":\"Load test seed task\"}"),
+                    HttpResponse.BodyHandlers.ofString());
+            ids.add(parseId(response.body()));
+        }
+    }
+
+    /**
+     * Offer load at {@code ratePerSecond} for {@code duration}, then wait for outstanding requests.
+     */
+    Report run(int ratePerSecond, Duration duration) throws InterruptedException {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(count -> count.set(0));
+        dropped.set(0);
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long total = duration.toSeconds() * ratePerSecond;
+        SplittableRandom random = new SplittableRandom(42);
+        int weightSum = mix.values().stream().mapToInt(Integer::intValue).sum();
+
+        long start = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long scheduled = start + i * interval;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = pick(random, weightSum);
+                long seed = random.nextLong();
+                if (inFlight.incrementAndGet() > maxInFlight) {
+                    // The server is far behind; stop piling up sockets, but record the request as
+                    // a failure at the highest trackable latency so the tail still shows the loss
+                    inFlight.decrementAndGet();
+                    dropped.incrementAndGet();
+                    recorders.get(operation).recordValue(HIGHEST_TRACKABLE_NANOS);
+                    errors.get(operation).incrementAndGet();
+                    continue;
+                }
+                senders.execute(() -> {
+                    try {
+                        execute(operation, scheduled, new SplittableRandom(seed));
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        for (Operation operation : mix.keySet()) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+            errorCounts.put(operation, errors.get(operation).get());
+        }
+        return new Report(ratePerSecond, seconds, histograms, errorCounts, dropped.get());
+    }
+
+    private Operation pick(SplittableRandom random, int weightSum) {
+        int roll = random.nextInt(weightSum);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty workload mix");
+    }
+
+    private void execute(Operation operation, long scheduled, SplittableRandom random) {
+        boolean ok;
+        try {
+            ok = switch (operation) {
+                case READ -> send(HttpRequest.newBuilder(taskUri(random)).GET().build()) == 200;
+                case LIST -> send(HttpRequest.newBuilder(URI.create(baseUrl + "/page?limit=50")).GET().build()) == 200;
+                case CREATE -> {
+                    HttpResponse<String> response = http.send(json(baseUrl, "POST",
+                            "{\"title\":\"Load " + random.nextInt() + "\",\"priority\":\"HIGH\"}"),
+                            HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() == 201) {
+                        ids.add(parseId(response.body()));
+                    }
+                    yield response.statusCode() == 201;
+                }
+                case UPDATE -> send(json(taskUri(random).toString(), "PUT",
+                        "{\"title\":\"Updated " + random.nextInt() + "\",\"description\":\"Rewritten by load test\"}")) == 200;
+                case PATCH -> send(json(taskUri(random).toString(), "PATCH",
+                        "{\"status\":\"" + (random.nextBoolean() ? "IN_PROGRESS" : "DONE") + "\"}")) == 200;
+                case DELETE -> {
+                    Long id = ids.take(random);
+                    yield id != null && send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE().build()) == 204;
+                }
+            };
+        } catch (Exception ex) {
+            ok = false;
+        }
+        recorders.get(operation).recordValue(Math.min(System.nanoTime() - scheduled, HIGHEST_TRACKABLE_NANOS));
+        if (!ok) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private URI taskUri(SplittableRandom random) {
+        return URI.create(baseUrl + "/" + ids.peek(random));
+    }
+
+    private static HttpRequest json(String url, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static long parseId(String body) {
+        Matcher matcher = ID.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No task id in response: " + body);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    /**
+     * Ids of live tasks; deletes take an id out so it is not deleted twice.
+     */
+    private static final class TaskIdPool {
+
+        private final List<Long> ids = new ArrayList<>();
+
+        synchronized void add(long id) {
+            ids.add(id);
+        }
+
+        synchronized long peek(SplittableRandom random) {
+            return ids.get(random.nextInt(ids.size()));
+        }
+
+        synchronized Long take(SplittableRandom random) {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(ids.size());
+            Long id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+
+    /**
+     * Latency histograms (nanoseconds from scheduled start) and error counts per operation.
+     */
+    record Report(int targetRate, double seconds, Map<Operation, Histogram> histograms,
+                  Map<Operation, Long> errors, long dropped) {
+
+        /**
+         * False when requests were dropped: the server did not sustain the target rate, and the
+         * percentiles only bound the latency from below.
+         */
+        boolean valid() {
+            return dropped == 0;
+        }
+
+        Histogram total() {
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+            histograms.values().forEach(total::add);
+            return total;
+        }
+
+        void print(PrintStream out) {
+            out.printf("Target %,d req/s for %.1f s; %,d dropped at the in-flight cap%s%n", targetRate, seconds, dropped,
+                    valid() ? "" : " (INVALID RUN: drops recorded as errors at the highest trackable latency)");
+            out.printf("%-8s %9s %10s %9s %9s %9s %9s %7s%n",
+                    "op", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+            histograms.forEach((operation, histogram) ->
+                    row(out, operation.name().toLowerCase(), histogram, errors.get(operation)));
+            row(out, "total", total(), errors.values().stream().mapToLong(Long::longValue).sum());
+        }
+
+        private void row(PrintStream out, String name, Histogram histogram, long errorCount) {
+            out.printf("%-8s %,9d %,10.1f %9.2f %9.2f %9.2f %9.2f %7d%n", name, histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()), errorCount);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
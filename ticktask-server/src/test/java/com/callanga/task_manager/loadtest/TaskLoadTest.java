@@ -0,0 +1,94 @@
+package com.callanga.task_manager.loadtest;
+
+import com.callanga.task_manager.TaskManagerApplication;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fixed-arrival-rate load test of the task API. Boots the application on a random port against
+ * embedded H2 (or targets {@code -Dload.baseUrl}), seeds tasks, warms up, then reports throughput
+ * and p50/p99/p999 per operation and writes each operation's HdrHistogram percentile distribution
+ * to {@code target/load-test/<op>.hgrm}.
+ * Skipped by default; run with:
+ * {@code ./mvnw test -Dtest=TaskLoadTest -Dbenchmark=true -Dload.rate=500 -Dload.seconds=60}
+ *
+ * <p>Other knobs: {@code load.warmup} (seconds), {@code load.seed} (tasks), {@code load.max-in-flight}
+ * and {@code load.mix}, e.g. {@code read:60,list:5,create:10,update:10,patch:10,delete:5}.
+ * Spring properties such as {@code -Dspring.threads.virtual.enabled=true} or
+ * {@code -Dspring.datasource.hikari.maximum-pool-size=20} apply to the embedded server.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskLoadTest {
+
+    private static final int RATE = Integer.getInteger("load.rate", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup", 10));
+    private static final int SEED_TASKS = Integer.getInteger("load.seed", 1_000);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 10_000);
+    private static final String MIX = System.getProperty("load.mix",
+            "read:60,list:5,create:10,update:10,patch:10,delete:5");
+
+    @Test
+    @DisplayName("Mixed CRUD workload at a fixed arrival rate")
+    void mixedWorkload_AtFixedArrivalRate() throws Exception {
+        String target = System.getProperty("load.baseUrl");
+        ConfigurableApplicationContext context = null;
+        if (target == null) {
+            context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                    .profiles("test")
+                    .run("--server.port=0", "--logging.level.root=WARN");
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/tasks";
+        }
+
+        try (HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            TaskLoadGenerator generator = new TaskLoadGenerator(http, target,
+                    TaskLoadGenerator.parseMix(MIX), MAX_IN_FLIGHT);
+            generator.seed(SEED_TASKS);
+
+            generator.run(RATE, WARMUP);
+            TaskLoadGenerator.Report report = generator.run(RATE, DURATION);
+
+            report.print(System.out);
+            writeDistributions(report);
+            assertThat(report.total().getTotalCount()).isPositive();
+            assertThat(report.valid())
+                    .as("%,d requests dropped at the in-flight cap; lower load.rate or raise load.max-in-flight",
+                            report.dropped())
+                    .isTrue();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static void writeDistributions(TaskLoadGenerator.Report report) throws Exception {
+        Path directory = Path.of("target", "load-test");
+        Files.createDirectories(directory);
+        for (Map.Entry<TaskLoadGenerator.Operation, Histogram> entry : report.histograms().entrySet()) {
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                // Values are in nanoseconds; scale the distribution to milliseconds
+                entry.getValue().outputPercentileDistribution(out, 1e6);
+            }
+        }
+        System.out.println("Percentile distributions written to " + directory.toAbsolutePath());
+    }
+}
@@ -0,0 +1,196 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.dto.TaskField;
+import com.callanga.task_manager.dto.TaskQuery;
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.service.TaskCursor;
+import com.callanga.task_manager.service.TaskService;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.callanga.task_manager.support.SqlStatementAssertions.recordSql;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the repository's access paths are served by the indexes the migrations create,
+ * by reading H2's plan for the SQL Hibernate actually generates on the migrated embedded schema.
+ * Each statement is captured through the statement tracker and explained with real parameter
+ * values, since H2 folds comparisons with NULL away and would plan a different query.
+ * The PostgreSQL-only partial and search indexes are not covered here.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskIndexQueryPlanTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Plan of the single statement {@code work} executes, with {@code parameters} bound in order.
+     */
+    private String plan(ThrowingCallable work, Object... parameters) {
+        List<String> sql = recordSql(work);
+        assertThat(sql).hasSize(1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql.get(0), String.class, parameters);
+    }
+
+    @Test
+    @DisplayName("findPageAfter - Should seek idx_tasks_created_at_id and read it in order")
+    void findPageAfter_ShouldSeekCreatedAtIndex() {
+        // Act
+        String plan = plan(() -> taskRepository.findPageAfter(SINCE, 5L, Limit.of(50)),
+                SINCE, SINCE, SINCE, 5L, 50);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASKS_CREATED_AT_ID: CREATED_AT >=").contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("findSummaryPageAfter - Should seek idx_tasks_created_at_id and read it in order")
+    void findSummaryPageAfter_ShouldSeekCreatedAtIndex() {
+        // Act
+        String plan = plan(() -> taskRepository.findSummaryPageAfter(SINCE, 5L, Limit.of(50)),
+                SINCE, SINCE, SINCE, 5L, 50);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASKS_CREATED_AT_ID: CREATED_AT >=").contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("getTaskPage - Should seek idx_tasks_created_at_id for a field-selecting cursor page")
+    void getTaskPageWithFields_ShouldSeekCreatedAtIndex() {
+        // Arrange
+        String cursor = new TaskCursor(SINCE, 5L).encode();
+
+        // Act
+        String plan = plan(() -> taskService.getTaskPage(cursor, 20, EnumSet.of(TaskField.TITLE)),
+                SINCE, SINCE, SINCE, 5L, 0, 21);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASKS_CREATED_AT_ID: CREATED_AT >=").contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("findUpdatedAfter - Should seek idx_tasks_updated_at_id from the keyset position and read it in order")
+    void findUpdatedAfter_ShouldSeekUpdatedAtIndex() {
+        // Act
+        String plan = plan(() -> taskRepository.findUpdatedAfter(SINCE, 5L, Limit.of(501)), SINCE, 5L, 501);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASKS_UPDATED_AT_ID: UPDATED_AT >=").contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("findDeletedAfter - Should seek idx_task_tombstones_deleted_at from the keyset position and read it in order")
+    void findDeletedAfter_ShouldSeekDeletedAtIndex() {
+        // Act
+        String plan = plan(() -> taskTombstoneRepository.findDeletedAfter(SINCE, 5L, Limit.of(501)),
+                SINCE, 5L, 501);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASK_TOMBSTONES_DELETED_AT: DELETED_AT >=").contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("findListVersion - Should read task_list_version by primary key")
+    void findListVersion_ShouldUsePrimaryKey() {
+        // Act
+        String plan = plan(() -> taskRepository.findListVersion());
+
+        // Assert
+        assertThat(plan).contains("PRIMARY_KEY").contains("ID = 1").doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("queryTasks - Should seek idx_tasks_status_due_date for a status and due date range")
+    void queryTasksByStatusAndDueDate_ShouldSeekStatusDueDateIndex() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder().status(Set.of(TaskStatus.TODO)).dueTo(LocalDate.of(2026, 1, 31)).build();
+
+        // Act
+        String plan = plan(() -> taskService.queryTasks(query), "TODO", LocalDate.of(2026, 1, 31), 0, 20);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASKS_STATUS_DUE_DATE: STATUS =").contains("DUE_DATE <=");
+    }
+
+    @Test
+    @DisplayName("queryTasks - Should seek idx_tasks_priority_due_date for a priority and due date range")
+    void queryTasksByPriorityAndDueDate_ShouldSeekPriorityDueDateIndex() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder().priority(Set.of(Priority.HIGH)).dueFrom(LocalDate.of(2026, 1, 1)).build();
+
+        // Act
+        String plan = plan(() -> taskService.queryTasks(query), "HIGH", LocalDate.of(2026, 1, 1), 0, 20);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASKS_PRIORITY_DUE_DATE: PRIORITY =").contains("DUE_DATE >=");
+    }
+
+    /**
+     * H2 seeks a status-leading index but, unlike PostgreSQL, does not weigh the sort that
+     * {@code idx_tasks_status_created_at} would save, so only the seek is pinned here.
+     */
+    @Test
+    @DisplayName("queryTasks - Should seek a status index for a status filter in creation order")
+    void queryTasksByStatus_ShouldSeekStatusIndex() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder().status(Set.of(TaskStatus.DONE)).build();
+
+        // Act
+        String plan = plan(() -> taskService.queryTasks(query), "DONE", 0, 20);
+
+        // Assert
+        assertThat(plan).containsPattern("IDX_TASKS_STATUS_\\w+: STATUS =").doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("queryTasks - Should read idx_tasks_due_date_id in order for an unfiltered due date sort")
+    void queryTasksByDueDate_ShouldReadDueDateIndexInOrder() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder().sort("dueDate").build();
+
+        // Act
+        String plan = plan(() -> taskService.queryTasks(query), 0, 20);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASKS_DUE_DATE_ID").contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("queryTasks - Should read idx_tasks_title_id backwards for a descending title sort")
+    void queryTasksByTitleDesc_ShouldReadTitleIndexInOrder() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder().sort("title,desc").build();
+
+        // Act
+        String plan = plan(() -> taskService.queryTasks(query), 0, 20);
+
+        // Assert
+        assertThat(plan).contains("IDX_TASKS_TITLE_ID").contains("index sorted");
+    }
+}
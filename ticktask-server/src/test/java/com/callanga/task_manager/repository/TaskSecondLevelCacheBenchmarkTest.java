@@ -0,0 +1,125 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.jdbc.SqlStatementStats;
+import com.callanga.task_manager.jdbc.SqlStatementTracker;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of the Task second-level and query cache on embedded H2: the same read mix of
+ * lookups by id and status/priority finders, each in its own read-only transaction, run with the
+ * session bypassing the cache and then using it. Reports database round trips and time per read.
+ * Skipped by default; run with:
+ * {@code ./mvnw test -Dtest=TaskSecondLevelCacheBenchmarkTest -Dbenchmark=true}
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskSecondLevelCacheBenchmarkTest {
+
+    private static final int TASKS = 1_000;
+    private static final int READS = 20_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        taskRepository.deleteAllInBatch();
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .title("Task " + i)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .build());
+        }
+        ids = taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Second-level cache should remove most database round trips from repeated reads")
+    void cachedReads_ShouldSkipDatabase() {
+        // Warm up both modes so JIT and connection pool state are comparable
+        run(false, READS / 10);
+        run(true, READS / 10);
+
+        Run uncached = run(false, READS);
+        Run cached = run(true, READS);
+
+        System.out.printf("uncached: %,d reads, %,d statements, %.1f µs/read%n",
+                READS, uncached.statements(), uncached.microsPerRead());
+        System.out.printf("cached:   %,d reads, %,d statements, %.1f µs/read%n",
+                READS, cached.statements(), cached.microsPerRead());
+
+        assertThat(cached.statements()).isLessThan(uncached.statements() / 10);
+        assertThat(cached.microsPerRead()).isLessThan(uncached.microsPerRead());
+    }
+
+    /**
+     * Nine lookups by id for every finder call, over uniformly random tasks.
+     */
+    private Run run(boolean useCache, int reads) {
+        CacheRetrieveMode retrieveMode = useCache ? CacheRetrieveMode.USE : CacheRetrieveMode.BYPASS;
+        CacheStoreMode storeMode = useCache ? CacheStoreMode.USE : CacheStoreMode.BYPASS;
+        SplittableRandom random = new SplittableRandom(42);
+        long start = System.nanoTime();
+        SqlStatementStats stats = SqlStatementTracker.capture(() -> {
+            for (int i = 0; i < reads; i++) {
+                int read = i;
+                readOnly.executeWithoutResult(status -> {
+                    entityManager.setCacheRetrieveMode(retrieveMode);
+                    entityManager.setCacheStoreMode(storeMode);
+                    switch (read % 10) {
+                        case 0 -> taskRepository.findByStatus(TaskStatus.values()[random.nextInt(3)]);
+                        case 5 -> taskRepository.findByPriority(Priority.values()[random.nextInt(3)]);
+                        // What findById does, with the modes as hints: find() ignores the session's modes
+                        default -> entityManager.find(Task.class, ids.get(random.nextInt(ids.size())), Map.of(
+                                "jakarta.persistence.cache.retrieveMode", retrieveMode,
+                                "jakarta.persistence.cache.storeMode", storeMode));
+                    }
+                });
+            }
+        });
+        return new Run(stats.getCount(), (System.nanoTime() - start) / 1_000.0 / reads);
+    }
+
+    private record Run(int statements, double microsPerRead) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.callanga.task_manager.repository;
+
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.service.TaskExportFormat;
+import com.callanga.task_manager.service.TaskExportService;
+import com.callanga.task_manager.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.callanga.task_manager.support.SqlStatementAssertions.recordSql;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Task second-level and query cache on embedded H2.
+ * Every lookup runs in its own read-only transaction, so only the shared cache can save a query.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskSecondLevelCacheTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate readOnly;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        taskId = taskService.createTask(TaskRequest.builder().title("Cached").status(TaskStatus.IN_PROGRESS).build())
+                .getId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private <T> T read(Supplier<T> lookup) {
+        return readOnly.execute(status -> lookup.get());
+    }
+
+    @Test
+    @DisplayName("findById - Should query once, then serve the task from the entity region")
+    void findById_ShouldHitEntityRegion() {
+        // Act & Assert
+        assertThat(recordSql(() -> read(() -> taskRepository.findById(taskId)))).hasSize(1);
+        assertThat(recordSql(() -> read(() -> taskRepository.findById(taskId)))).isEmpty();
+        assertThat(entityManagerFactory.getCache().contains(Task.class, taskId)).isTrue();
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tags("region", Task.CACHE_REGION, "result", "hit").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("findByStatus - Should serve a repeated finder from the query and entity regions")
+    void findByStatus_ShouldHitQueryRegion() {
+        // Arrange
+        read(() -> taskRepository.findByStatus(TaskStatus.IN_PROGRESS));
+
+        // Act
+        List<String> sql = recordSql(() -> read(() -> taskRepository.findByStatus(TaskStatus.IN_PROGRESS)));
+
+        // Assert
+        assertThat(sql).isEmpty();
+        assertThat(meterRegistry.get("hibernate.cache.query.region.requests")
+                .tags("region", TaskRepository.QUERY_CACHE_REGION, "result", "hit").functionCounter().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("updateTask - Should drop the cached task and finder results written by the native UPDATE")
+    void updateTask_ShouldInvalidateCachedTaskAndQueries() {
+        // Arrange
+        read(() -> taskRepository.findById(taskId));
+        read(() -> taskRepository.findByStatus(TaskStatus.IN_PROGRESS));
+
+        // Act
+        taskService.updateTask(taskId, TaskRequest.builder().title("Renamed").status(TaskStatus.DONE).build());
+
+        // Assert
+        Optional<Task> reloaded = read(() -> taskRepository.findById(taskId));
+        assertThat(reloaded).get().extracting(Task::getTitle).isEqualTo("Renamed");
+        assertThat(read(() -> taskRepository.findByStatus(TaskStatus.IN_PROGRESS)))
+                .extracting(Task::getId).doesNotContain(taskId);
+    }
+
+    @Test
+    @DisplayName("deleteTask - Should drop the cached task without clearing the rest of the region")
+    void deleteTask_ShouldEvictOnlyDeletedTask() {
+        // Arrange
+        Long otherId = taskService.createTask(TaskRequest.builder().title("Kept").build()).getId();
+        read(() -> taskRepository.findById(taskId));
+        read(() -> taskRepository.findById(otherId));
+
+        // Act
+        taskService.deleteTask(taskId);
+
+        // Assert
+        assertThat(read(() -> taskRepository.findById(taskId))).isEmpty();
+        assertThat(recordSql(() -> read(() -> taskRepository.findById(otherId)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("export - Should stream every task without putting any into the entity region")
+    void export_ShouldBypassEntityRegion() {
+        // Arrange
+        CacheRegionStatistics region = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(Task.CACHE_REGION);
+        long putsBefore = region.getPutCount();
+
+        // Act
+        taskExportService.export(TaskExportFormat.NDJSON, OutputStream.nullOutputStream());
+
+        // Assert
+        assertThat(region.getPutCount()).isEqualTo(putsBefore);
+        assertThat(entityManagerFactory.getCache().contains(Task.class, taskId)).isFalse();
+    }
+}
@@ -0,0 +1,99 @@
+package com.callanga.task_manager.search;
+
+import com.callanga.task_manager.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Latency benchmark for InMemoryTaskSearchIndex at one million tasks.
+ * Skipped by default; run with:
+ * {@code ./mvnw test -Dtest=InMemoryTaskSearchIndexBenchmarkTest -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InMemoryTaskSearchIndexBenchmarkTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int VOCABULARY = 20_000;
+    private static final int WARMUP_QUERIES = 2_000;
+    private static final int MEASURED_QUERIES = 5_000;
+
+    @Test
+    @DisplayName("search - p99 latency should stay under 10 ms at one million tasks")
+    void search_ShouldStayUnderTenMillisAtOneMillionTasks() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = word(i);
+        }
+
+        InMemoryTaskSearchIndex index = new InMemoryTaskSearchIndex(mock(TaskRepository.class));
+        long buildStart = System.nanoTime();
+        for (long id = 1; id <= TASKS; id++) {
+            index.index(id, sentence(words, random, 5), sentence(words, random, 12));
+        }
+        System.out.printf("Indexed %,d tasks in %d ms%n", index.size(), (System.nanoTime() - buildStart) / 1_000_000);
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            queries.add(switch (i % 4) {
+                case 0 -> zipfWord(words, random);
+                case 1 -> zipfWord(words, random) + " " + zipfWord(words, random);
+                case 2 -> zipfWord(words, random) + " " + zipfWord(words, random).substring(0, 3);
+                default -> words[random.nextInt(VOCABULARY)];
+            });
+        }
+
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            index.search(queries.get(i), 50);
+        }
+        long[] latencies = new long[MEASURED_QUERIES];
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            long start = System.nanoTime();
+            index.search(queries.get(WARMUP_QUERIES + i), 50);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[MEASURED_QUERIES / 2] / 1e6;
+        double p99 = latencies[(int) (MEASURED_QUERIES * 0.99)] / 1e6;
+        double max = latencies[MEASURED_QUERIES - 1] / 1e6;
+        System.out.printf("search latency over %,d tasks: p50=%.3f ms p99=%.3f ms max=%.3f ms%n", TASKS, p50, p99, max);
+
+        assertThat(p99).isLessThan(10.0);
+    }
+
+    private static String sentence(String[] words, SplittableRandom random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(zipfWord(words, random)).append(' ');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Skewed word choice so a few terms are very common, like real task text.
+     */
+    private static String zipfWord(String[] words, SplittableRandom random) {
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return words[(int) (skewed * words.length)];
+    }
+
+    private static String word(int n) {
+        StringBuilder word = new StringBuilder();
+        int value = n + 26 * 26;
+        while (value > 0) {
+            word.append((char) ('a' + value % 26));
+            value /= 26;
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.callanga.task_manager.search;
+
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for InMemoryTaskSearchIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemoryTaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private InMemoryTaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryTaskSearchIndex(taskRepository);
+        index.index(1L, "Write quarterly report", "Collect numbers from finance");
+        index.index(2L, "Review pull requests", "Report blockers in the weekly sync");
+        index.index(3L, "Plan team offsite", null);
+    }
+
+    @Test
+    @DisplayName("search - Should rank title matches above description matches")
+    void search_ShouldRankTitleMatchesFirst() {
+        assertThat(index.search("report", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("search - Should require every term to match")
+    void search_ShouldIntersectTerms() {
+        assertThat(index.search("report finance", 10)).containsExactly(1L);
+        assertThat(index.search("report offsite", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - Should match last term as a prefix")
+    void search_ShouldMatchLastTermAsPrefix() {
+        assertThat(index.search("team off", 10)).containsExactly(3L);
+        assertThat(index.search("rev", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("search - Should ignore case and punctuation and honour limit")
+    void search_ShouldNormaliseAndLimit() {
+        assertThat(index.search("REPORT!", 1)).containsExactly(1L);
+        assertThat(index.search("  ...  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onTaskChanged - Should reindex updated tasks and drop deleted ones")
+    void onTaskChanged_ShouldApplyCommittedChanges() {
+        // Act
+        index.onTaskChanged(TaskChangedEvent.updated(
+                TaskResponse.builder().id(1L).title("Write annual summary").build()));
+        index.onTaskChanged(TaskChangedEvent.deleted(2L));
+
+        // Assert
+        assertThat(index.search("report", 10)).isEmpty();
+        assertThat(index.search("annual", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,168 @@
+package com.callanga.task_manager.search;
+
+import com.callanga.task_manager.support.PostgresTestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.callanga.task_manager.support.SqlStatementAssertions.recordSql;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of PostgresTaskSearchEngine at one million tasks on PostgreSQL, with the same text and
+ * query mix as InMemoryTaskSearchIndexBenchmarkTest. Checks that the search SQL the engine actually
+ * runs is served by the {@code search_vector} and title trigram GIN indexes together, then ranked,
+ * and reports its latency.
+ * Skipped by default and where Docker is not available; run with:
+ * {@code ./mvnw test -Dtest=PostgresTaskSearchBenchmarkTest -Dbenchmark=true}
+ */
+@SpringBootTest
+@Import(PostgresTestConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PostgresTaskSearchBenchmarkTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int BATCH = 5_000;
+    private static final int VOCABULARY = 20_000;
+    private static final int WARMUP_QUERIES = 200;
+    private static final int MEASURED_QUERIES = 1_000;
+
+    @Autowired
+    private PostgresTaskSearchEngine searchEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final String[] words = new String[VOCABULARY];
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = word(i);
+        }
+        jdbcTemplate.update("DELETE FROM tasks");
+
+        long seedStart = System.nanoTime();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 0, 0));
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (long id = 1; id <= TASKS; id++) {
+            rows.add(new Object[]{id, sentence(5), sentence(12), createdAt});
+            if (rows.size() == BATCH) {
+                insert(rows);
+            }
+        }
+        insert(rows);
+        jdbcTemplate.execute("ANALYZE tasks");
+        System.out.printf("Seeded %,d tasks in %d ms%n", TASKS, (System.nanoTime() - seedStart) / 1_000_000);
+    }
+
+    @Test
+    @DisplayName("search - Should combine both GIN indexes and keep p99 latency under 250 ms at one million tasks")
+    void search_ShouldUseGinIndexesAtOneMillionTasks() {
+        // Arrange
+        String word = words[VOCABULARY / 2];
+        String query = word + " " + words[VOCABULARY / 3].substring(0, 3);
+
+        // Act
+        String plan = plan(query);
+
+        // Assert
+        System.out.println(plan);
+        assertThat(plan)
+                .contains("Sort Key: ((ts_rank_cd(t.search_vector, q.ts) + word_similarity(q.raw")
+                .contains("BitmapOr")
+                .contains("Bitmap Index Scan on idx_tasks_search_vector")
+                .contains("Bitmap Index Scan on idx_tasks_title_trgm")
+                .doesNotContain("Seq Scan on tasks");
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            queries.add(switch (i % 4) {
+                case 0 -> zipfWord();
+                case 1 -> zipfWord() + " " + zipfWord();
+                case 2 -> zipfWord() + " " + zipfWord().substring(0, 3);
+                default -> words[random.nextInt(VOCABULARY)];
+            });
+        }
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            searchEngine.search(queries.get(i), 50);
+        }
+        long[] latencies = new long[MEASURED_QUERIES];
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            long start = System.nanoTime();
+            searchEngine.search(queries.get(WARMUP_QUERIES + i), 50);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[MEASURED_QUERIES / 2] / 1e6;
+        double p99 = latencies[(int) (MEASURED_QUERIES * 0.99)] / 1e6;
+        double max = latencies[MEASURED_QUERIES - 1] / 1e6;
+        System.out.printf("search latency over %,d tasks: p50=%.3f ms p99=%.3f ms max=%.3f ms%n", TASKS, p50, p99, max);
+
+        assertThat(p99).isLessThan(250.0);
+    }
+
+    /**
+     * Executed plan of the statement the engine runs for {@code text}, with its parameters bound
+     * in the order the named parameters expand to.
+     */
+    private String plan(String text) {
+        List<String> sql = recordSql(() -> searchEngine.search(text, 50));
+        assertThat(sql).hasSize(1);
+        int split = text.lastIndexOf(' ') + 1;
+        String head = text.substring(0, split);
+        String prefix = text.substring(split);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql.get(0),
+                String.class, prefix, text, head, prefix, text, 1_000, 50));
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks (id, title, description, status, priority, created_at, updated_at, version)
+                VALUES (?, ?, ?, 'TODO', 'MEDIUM', ?, NULL, 0)
+                """, rows);
+        rows.clear();
+    }
+
+    private String sentence(int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(zipfWord()).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    /**
+     * Skewed word choice so a few terms are very common, like real task text.
+     */
+    private String zipfWord() {
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return words[(int) (skewed * words.length)];
+    }
+
+    private static String word(int n) {
+        StringBuilder word = new StringBuilder();
+        int value = n + 26 * 26;
+        while (value > 0) {
+            word.append((char) ('a' + value % 26));
+            value /= 26;
+        }
+        return word.toString();
+    }
+}
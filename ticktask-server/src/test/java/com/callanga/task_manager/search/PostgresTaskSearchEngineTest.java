@@ -0,0 +1,56 @@
+package com.callanga.task_manager.search;
+
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.service.TaskService;
+import com.callanga.task_manager.support.PostgresTestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for PostgresTaskSearchEngine on a real PostgreSQL with the search migrations.
+ * Skipped where Docker is not available.
+ */
+@SpringBootTest
+@Import(PostgresTestConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresTaskSearchEngineTest {
+
+    @Autowired
+    private PostgresTaskSearchEngine searchEngine;
+
+    @Autowired
+    private TaskService taskService;
+
+    private Long reportId;
+    private Long groceriesId;
+
+    @BeforeEach
+    void setUp() {
+        reportId = taskService.createTask(TaskRequest.builder()
+                .title("Weekly report").description("Summarise the sprint for stakeholders").build()).getId();
+        groceriesId = taskService.createTask(TaskRequest.builder()
+                .title("Buy groceries").description("Milk and bread").build()).getId();
+    }
+
+    @Test
+    @DisplayName("search - Should match whole words in the title and description")
+    void search_ShouldMatchWholeWords() {
+        assertThat(searchEngine.search("report", 50)).contains(reportId).doesNotContain(groceriesId);
+        assertThat(searchEngine.search("stakeholders", 50)).contains(reportId).doesNotContain(groceriesId);
+    }
+
+    @Test
+    @DisplayName("search - Should match a partial last word while the user is still typing")
+    void search_ShouldMatchPrefixOfLastWord() {
+        assertThat(searchEngine.search("rep", 50)).contains(reportId).doesNotContain(groceriesId);
+        assertThat(searchEngine.search("weekly rep", 50)).contains(reportId).doesNotContain(groceriesId);
+        assertThat(searchEngine.search("stakeh", 50)).contains(reportId);
+    }
+}
@@ -0,0 +1,156 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.dto.TaskBatchOperation;
+import com.callanga.task_manager.dto.TaskBatchResponse;
+import com.callanga.task_manager.dto.TaskBatchResult;
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.exception.InvalidBatchRequestException;
+import com.callanga.task_manager.repository.TaskRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskBatchService.
+ * Uses mocked repository and a real bean validator - no database required.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskBatchService taskBatchService;
+
+    private Task existingTask;
+
+    @BeforeEach
+    void setUp() {
+        taskBatchService = new TaskBatchService(taskRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher);
+        existingTask = Task.builder()
+                .id(7L)
+                .title("Existing")
+                .status(TaskStatus.TODO)
+                .priority(Priority.LOW)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static TaskBatchOperation create(String title) {
+        return TaskBatchOperation.builder()
+                .op(TaskBatchOperation.Type.CREATE)
+                .task(TaskRequest.builder().title(title).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("execute - Should run mixed operations with one lookup and report each item")
+    @SuppressWarnings("unchecked")
+    void execute_ShouldReportEachItem() {
+        // Arrange
+        List<TaskBatchOperation> operations = List.of(
+                create("New task"),
+                TaskBatchOperation.builder()
+                        .op(TaskBatchOperation.Type.UPDATE)
+                        .id(7L)
+                        .task(TaskRequest.builder().title("Renamed").status(TaskStatus.DONE).build())
+                        .build(),
+                TaskBatchOperation.builder().op(TaskBatchOperation.Type.DELETE).id(99L).build(),
+                create(""));
+
+        when(taskRepository.findAllById(Set.of(7L, 99L))).thenReturn(List.of(existingTask));
+
+        // Act
+        TaskBatchResponse response = taskBatchService.execute(operations);
+
+        // Assert
+        List<TaskBatchResult> results = response.getResults();
+        assertThat(results).extracting(TaskBatchResult::getStatus).containsExactly(201, 200, 404, 400);
+        assertThat(results.get(1).getTask().getTitle()).isEqualTo("Renamed");
+        assertThat(results.get(1).getTask().getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(results.get(2).getErrors()).containsKey("id");
+        assertThat(results.get(3).getErrors()).containsKey("task.title");
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+
+        ArgumentCaptor<Iterable<Task>> created = ArgumentCaptor.forClass(Iterable.class);
+        verify(taskRepository).saveAll(created.capture());
+        assertThat(created.getValue()).extracting(Task::getTitle).containsExactly("New task");
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(taskRepository, never()).deleteAllInBatch(any());
+        verify(taskRepository).flush();
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("execute - Should delete in one statement and reject a second delete of the same id")
+    void execute_ShouldDeleteInBatch() {
+        // Arrange
+        TaskBatchOperation delete = TaskBatchOperation.builder().op(TaskBatchOperation.Type.DELETE).id(7L).build();
+        when(taskRepository.findAllById(Set.of(7L))).thenReturn(List.of(existingTask));
+
+        // Act
+        TaskBatchResponse response = taskBatchService.execute(List.of(delete, delete));
+
+        // Assert
+        assertThat(response.getResults()).extracting(TaskBatchResult::getStatus).containsExactly(204, 404);
+        verify(taskRepository).deleteAllInBatch(List.of(existingTask));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(7L));
+    }
+
+    @Test
+    @DisplayName("execute - Should report missing fields without touching the database")
+    void execute_ShouldReportMissingFields() {
+        // Arrange
+        List<TaskBatchOperation> operations = List.of(
+                TaskBatchOperation.builder().build(),
+                TaskBatchOperation.builder().op(TaskBatchOperation.Type.UPDATE).build());
+
+        // Act
+        TaskBatchResponse response = taskBatchService.execute(operations);
+
+        // Assert
+        assertThat(response.getResults().get(0).getErrors()).containsOnlyKeys("op");
+        assertThat(response.getResults().get(1).getErrors()).containsOnlyKeys("id", "task");
+        assertThat(response.getFailed()).isEqualTo(2);
+        verify(taskRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("execute - Should reject empty and oversized batches")
+    void execute_ShouldRejectInvalidBatchSize() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskBatchService.execute(List.of()))
+                .isInstanceOf(InvalidBatchRequestException.class);
+        assertThatThrownBy(() -> taskBatchService.execute(
+                Collections.nCopies(TaskBatchService.MAX_BATCH_SIZE + 1, create("x"))))
+                .isInstanceOf(InvalidBatchRequestException.class);
+
+        verifyNoInteractions(taskRepository);
+    }
+}
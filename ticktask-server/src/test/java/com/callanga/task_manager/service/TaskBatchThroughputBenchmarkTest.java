@@ -0,0 +1,136 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.dto.TaskBatchOperation;
+import com.callanga.task_manager.dto.TaskBatchResult;
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput benchmark comparing the bulk API with the single-item path on embedded H2.
+ * Skipped by default; run with:
+ * {@code ./mvnw test -Dtest=TaskBatchThroughputBenchmarkTest -Dbenchmark=true}
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskBatchThroughputBenchmarkTest {
+
+    private static final int TASKS = 5_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Bulk create/update/delete should outperform the single-item path")
+    void batch_ShouldOutperformSingleItemPath() {
+        // Warm up both paths so JIT and connection pool state are comparable
+        runSingle(500);
+        runBatch(500);
+
+        Run single = runSingle(TASKS);
+        Run batch = runBatch(TASKS);
+
+        System.out.printf("single-item: %,.0f ops/s, %,d statements%n", single.opsPerSecond(), single.statements());
+        System.out.printf("batch:       %,.0f ops/s, %,d statements%n", batch.opsPerSecond(), batch.statements());
+
+        assertThat(batch.opsPerSecond()).isGreaterThan(single.opsPerSecond());
+        assertThat(batch.statements()).isLessThan(single.statements() / 10);
+    }
+
+    private Run runSingle(int count) {
+        return measure(count, () -> {
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(taskService.createTask(request("Single " + i)).getId());
+            }
+            for (Long id : ids) {
+                taskService.updateTask(id, TaskRequest.builder().title("Updated").status(TaskStatus.DONE).build());
+            }
+            ids.forEach(taskService::deleteTask);
+        });
+    }
+
+    private Run runBatch(int count) {
+        return measure(count, () -> {
+            List<Long> ids = new ArrayList<>(count);
+            inChunks(count, i -> TaskBatchOperation.builder()
+                    .op(TaskBatchOperation.Type.CREATE)
+                    .task(request("Batch " + i))
+                    .build(), ids);
+            inChunks(count, i -> TaskBatchOperation.builder()
+                    .op(TaskBatchOperation.Type.UPDATE)
+                    .id(ids.get(i))
+                    .task(TaskRequest.builder().title("Updated").status(TaskStatus.DONE).build())
+                    .build(), null);
+            inChunks(count, i -> TaskBatchOperation.builder()
+                    .op(TaskBatchOperation.Type.DELETE)
+                    .id(ids.get(i))
+                    .build(), null);
+        });
+    }
+
+    private void inChunks(int count, Function<Integer, TaskBatchOperation> operation, List<Long> createdIds) {
+        for (int start = 0; start < count; start += TaskBatchService.MAX_BATCH_SIZE) {
+            List<TaskBatchOperation> chunk = new ArrayList<>();
+            for (int i = start; i < Math.min(count, start + TaskBatchService.MAX_BATCH_SIZE); i++) {
+                chunk.add(operation.apply(i));
+            }
+            List<TaskBatchResult> results = taskBatchService.execute(chunk).getResults();
+            assertThat(results).allMatch(result -> result.getErrors() == null);
+            if (createdIds != null) {
+                results.stream().map(TaskBatchResult::getTask).map(TaskResponse::getId).forEach(createdIds::add);
+            }
+        }
+    }
+
+    private Run measure(int count, Runnable workload) {
+        statistics.clear();
+        long start = System.nanoTime();
+        workload.run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        // Each task is created, updated and deleted once
+        return new Run(3 * count / seconds, statistics.getPrepareStatementCount());
+    }
+
+    private static TaskRequest request(String title) {
+        return TaskRequest.builder().title(title).description("Imported from benchmark").build();
+    }
+
+    private record Run(double opsPerSecond, long statements) {
+    }
+}
@@ -0,0 +1,188 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.dto.TaskChangesResponse;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskTombstone;
+import com.callanga.task_manager.exception.ChangeTokenExpiredException;
+import com.callanga.task_manager.exception.InvalidTaskQueryException;
+import com.callanga.task_manager.repository.TaskRepository;
+import com.callanga.task_manager.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskChangeService.
+ * Uses mocked repositories - no database required.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskChangeServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @InjectMocks
+    private TaskChangeService taskChangeService;
+
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskChangeService, "overlap", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(taskChangeService, "tombstoneRetention", Duration.ofDays(30));
+        base = LocalDateTime.now().minusMinutes(10).withNano(0);
+    }
+
+    private Task task(long id, LocalDateTime updatedAt) {
+        return Task.builder().id(id).title("Task " + id).createdAt(base).updatedAt(updatedAt).build();
+    }
+
+    @Test
+    @DisplayName("getChanges - Should merge updates and tombstones in stamp order from the token")
+    void getChanges_ShouldMergeUpdatesAndTombstones() {
+        // Arrange
+        TaskChangeToken since = TaskChangeToken.at(base);
+        when(taskRepository.findUpdatedAfter(since.getSince(), Long.MAX_VALUE, Limit.of(11)))
+                .thenReturn(List.of(task(1L, base.plusSeconds(1)), task(3L, base.plusSeconds(3))));
+        when(tombstoneRepository.findDeletedAfter(since.getSince(), Long.MAX_VALUE, Limit.of(11)))
+                .thenReturn(List.of(new TaskTombstone(2L, base.plusSeconds(2))));
+
+        // Act
+        TaskChangesResponse response = taskChangeService.getChanges(since.encode(), 10);
+
+        // Assert
+        assertThat(response.getUpdated()).extracting(TaskResponse::getId).containsExactly(1L, 3L);
+        assertThat(response.getDeleted()).containsExactly(2L);
+        assertThat(response.isHasMore()).isFalse();
+        // A complete response rewinds by the overlap so late commits are picked up next time
+        LocalDateTime next = TaskChangeToken.decode(response.getNextToken()).getSince();
+        assertThat(next).isBetween(LocalDateTime.now().minusSeconds(6), LocalDateTime.now().minusSeconds(4));
+    }
+
+    @Test
+    @DisplayName("getChanges - Should stop at the limit and resume after the last stamp")
+    void getChanges_ShouldResumeAfterLastStamp_WhenTruncated() {
+        // Arrange
+        when(taskRepository.findUpdatedAfter(TaskChangeToken.START.getSince(), Long.MAX_VALUE, Limit.of(3)))
+                .thenReturn(List.of(task(1L, base.plusSeconds(1)), task(2L, base.plusSeconds(3)),
+                        task(4L, base.plusSeconds(4))));
+        when(tombstoneRepository.findDeletedAfter(TaskChangeToken.START.getSince(), Long.MAX_VALUE, Limit.of(3)))
+                .thenReturn(List.of(new TaskTombstone(3L, base.plusSeconds(2))));
+
+        // Act
+        TaskChangesResponse response = taskChangeService.getChanges(null, 2);
+
+        // Assert
+        assertThat(response.getUpdated()).extracting(TaskResponse::getId).containsExactly(1L);
+        assertThat(response.getDeleted()).containsExactly(3L);
+        assertThat(response.isHasMore()).isTrue();
+        TaskChangeToken next = TaskChangeToken.decode(response.getNextToken());
+        assertThat(next.getSince()).isEqualTo(base.plusSeconds(2));
+        assertThat(next.getAfterTombstoneId()).isEqualTo(3L);
+        assertThat(next.getAfterTaskId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("getChanges - Should page through more changes than the limit that share one stamp")
+    void getChanges_ShouldDeliverEveryChange_WhenMoreThanLimitShareStamp() {
+        // Arrange: a batch committed three updates and a deletion under one stamp
+        when(taskRepository.findUpdatedAfter(TaskChangeToken.START.getSince(), Long.MAX_VALUE, Limit.of(3)))
+                .thenReturn(List.of(task(1L, base), task(2L, base), task(3L, base)));
+        when(tombstoneRepository.findDeletedAfter(TaskChangeToken.START.getSince(), Long.MAX_VALUE, Limit.of(3)))
+                .thenReturn(List.of(new TaskTombstone(4L, base)));
+        when(taskRepository.findUpdatedAfter(base, 2L, Limit.of(3))).thenReturn(List.of(task(3L, base)));
+        when(tombstoneRepository.findDeletedAfter(base, 0L, Limit.of(3)))
+                .thenReturn(List.of(new TaskTombstone(4L, base)));
+
+        // Act
+        TaskChangesResponse first = taskChangeService.getChanges(null, 2);
+        TaskChangesResponse second = taskChangeService.getChanges(first.getNextToken(), 2);
+
+        // Assert
+        assertThat(first.getUpdated()).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getUpdated()).extracting(TaskResponse::getId).containsExactly(3L);
+        assertThat(second.getDeleted()).containsExactly(4L);
+        assertThat(second.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getChanges - Should rewind behind an intermediate cursor inside the overlap window once paging ends")
+    void getChanges_ShouldRewindFinalToken_WhenIntermediateCursorIsInsideOverlap() {
+        // Arrange: two recent changes read one per page, and a slow transaction stamped just
+        // before the first page's cursor that only becomes visible after that page was read
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        LocalDateTime lateStamp = now.minusSeconds(3).minusNanos(500_000_000);
+        when(taskRepository.findUpdatedAfter(TaskChangeToken.START.getSince(), Long.MAX_VALUE, Limit.of(2)))
+                .thenReturn(List.of(task(1L, now.minusSeconds(3)), task(2L, now.minusSeconds(1))));
+        when(tombstoneRepository.findDeletedAfter(any(), anyLong(), any())).thenReturn(List.of());
+
+        // Act
+        TaskChangesResponse first = taskChangeService.getChanges(null, 1);
+        TaskChangeToken cursor = TaskChangeToken.decode(first.getNextToken());
+        when(taskRepository.findUpdatedAfter(cursor.getSince(), 1L, Limit.of(11)))
+                .thenReturn(List.of(task(2L, now.minusSeconds(1))));
+        TaskChangesResponse second = taskChangeService.getChanges(first.getNextToken(), 10);
+        TaskChangeToken next = TaskChangeToken.decode(second.getNextToken());
+
+        // Assert: paging advanced past the late change, so the final token goes back before it
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(cursor.getSince()).isEqualTo(now.minusSeconds(3));
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(next.getSince()).isEqualTo(cursor.getRewindTo()).isBefore(lateStamp);
+        assertThat(next.getRewindTo()).isNull();
+    }
+
+    @Test
+    @DisplayName("TaskChangeToken - Should round-trip the keyset and read tokens issued without ids")
+    void token_ShouldRoundTripKeyset() {
+        // Arrange
+        TaskChangeToken token = TaskChangeToken.at(base, 7L, 0L, base.minusSeconds(5));
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(base.toString().getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThat(TaskChangeToken.decode(token.encode())).isEqualTo(token);
+        assertThat(TaskChangeToken.decode(legacy)).isEqualTo(TaskChangeToken.at(base));
+    }
+
+    @Test
+    @DisplayName("getChanges - Should reject tokens older than the tombstone retention")
+    void getChanges_ShouldThrowGone_WhenTokenExpired() {
+        String token = TaskChangeToken.at(LocalDateTime.now().minusDays(31)).encode();
+
+        assertThatThrownBy(() -> taskChangeService.getChanges(token, null))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+        verify(taskRepository, never()).findUpdatedAfter(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("getChanges - Should reject malformed tokens")
+    void getChanges_ShouldThrow_WhenTokenMalformed() {
+        assertThatThrownBy(() -> taskChangeService.getChanges("not-a-token", null))
+                .isInstanceOf(InvalidTaskQueryException.class)
+                .hasMessageContaining("not-a-token");
+    }
+}
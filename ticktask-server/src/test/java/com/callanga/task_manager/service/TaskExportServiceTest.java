@@ -0,0 +1,120 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.Task;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.exception.InvalidTaskQueryException;
+import com.callanga.task_manager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskExportService.
+ * Uses mocked repository and entity manager - no database required.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private TaskExportService taskExportService;
+
+    private Task first;
+    private Task second;
+
+    @BeforeEach
+    void setUp() {
+        taskExportService = new TaskExportService(taskRepository, entityManager, JsonMapper.builder().build());
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
+        LocalDateTime timestamp = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        first = Task.builder()
+                .id(1L)
+                .title("Plain title")
+                .status(TaskStatus.TODO)
+                .priority(Priority.HIGH)
+                .dueDate(LocalDate.of(2025, 1, 31))
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .build();
+        second = Task.builder()
+                .id(2L)
+                .title("Say \"hi\", then leave")
+                .description("line one\nline two")
+                .status(TaskStatus.DONE)
+                .priority(Priority.LOW)
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .build();
+    }
+
+    @Test
+    @DisplayName("export - Should write one JSON object per line and detach each entity")
+    void export_ShouldWriteNdjson() {
+        // Arrange
+        when(taskRepository.streamAll()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.export(TaskExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"id\":1", "\"dueDate\":\"2025-01-31\"");
+        assertThat(lines[1]).contains("\"description\":\"line one\\nline two\"");
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+        verify(session).setCacheMode(CacheMode.IGNORE);
+    }
+
+    @Test
+    @DisplayName("export - Should write CSV with header and RFC 4180 quoting")
+    void export_ShouldWriteCsv() {
+        // Arrange
+        when(taskRepository.streamAll()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.export(TaskExportFormat.CSV, out);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,title,description,status,priority,dueDate,createdAt,updatedAt\n"
+                        + "1,Plain title,,TODO,HIGH,2025-01-31,2025-01-02T03:04:05,2025-01-02T03:04:05\n"
+                        + "2,\"Say \"\"hi\"\", then leave\",\"line one\nline two\",DONE,LOW,,"
+                        + "2025-01-02T03:04:05,2025-01-02T03:04:05\n");
+    }
+
+    @Test
+    @DisplayName("TaskExportFormat.from - Should reject unknown formats")
+    void from_ShouldRejectUnknownFormat() {
+        assertThat(TaskExportFormat.from("CSV")).isEqualTo(TaskExportFormat.CSV);
+        assertThatThrownBy(() -> TaskExportFormat.from("xml"))
+                .isInstanceOf(InvalidTaskQueryException.class);
+    }
+}
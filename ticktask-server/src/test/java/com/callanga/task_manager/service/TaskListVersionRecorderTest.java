@@ -0,0 +1,101 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.dto.TaskBatchOperation;
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.dto.TaskResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the task list version behind the list ETag, on embedded H2.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskListVersionRecorderTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private TaskRequest request(String title) {
+        return TaskRequest.builder().title(title).build();
+    }
+
+    @Test
+    @DisplayName("getTaskListETag - Should change after every create, update and delete")
+    void getTaskListETag_ShouldChangeOnEveryWrite() {
+        // Arrange
+        String before = taskService.getTaskListETag();
+
+        // Act
+        TaskResponse created = taskService.createTask(request("Versioned"));
+        String afterCreate = taskService.getTaskListETag();
+        taskService.patchTask(created.getId(), Map.of("title", "Renamed"), null);
+        String afterPatch = taskService.getTaskListETag();
+        taskService.deleteTask(created.getId());
+        String afterDelete = taskService.getTaskListETag();
+
+        // Assert
+        assertThat(List.of(before, afterCreate, afterPatch, afterDelete)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("getTaskListETag - Should not change after a PUT that changes nothing")
+    void getTaskListETag_ShouldNotChange_WhenUpdateIsNoOp() {
+        // Arrange
+        TaskResponse created = taskService.createTask(request("Unchanged"));
+        String before = taskService.getTaskListETag();
+
+        // Act
+        taskService.updateTask(created.getId(), request("Unchanged"));
+
+        // Assert
+        assertThat(taskService.getTaskListETag()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("getTaskListETag - Should move once for a batch written in one transaction")
+    void getTaskListETag_ShouldMoveOncePerTransaction() {
+        // Arrange
+        long before = Long.parseLong(taskService.getTaskListETag(), 16);
+
+        // Act
+        taskBatchService.execute(List.of(
+                TaskBatchOperation.builder().op(TaskBatchOperation.Type.CREATE).task(request("First")).build(),
+                TaskBatchOperation.builder().op(TaskBatchOperation.Type.CREATE).task(request("Second")).build(),
+                TaskBatchOperation.builder().op(TaskBatchOperation.Type.CREATE).task(request("Third")).build()));
+
+        // Assert
+        assertThat(Long.parseLong(taskService.getTaskListETag(), 16)).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("getTaskListETag - Should not move when the writing transaction rolls back")
+    void getTaskListETag_ShouldNotMove_WhenRolledBack() {
+        // Arrange
+        String before = taskService.getTaskListETag();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(request("Rolled back"));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertThat(taskService.getTaskListETag()).isEqualTo(before);
+    }
+}
@@ -0,0 +1,175 @@
+package com.callanga.task_manager.service;
+
+import com.callanga.task_manager.dto.TaskRequest;
+import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.entity.Priority;
+import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.exception.TaskNotFoundException;
+import com.callanga.task_manager.exception.TaskVersionConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.callanga.task_manager.support.SqlStatementAssertions.recordSql;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests pinning the number of SQL statements per write on embedded H2.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskMutationStatementCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    private TaskResponse createTask() {
+        return taskService.createTask(TaskRequest.builder()
+                .title("Original")
+                .description("Long description")
+                .priority(Priority.LOW)
+                .build());
+    }
+
+    @Test
+    @DisplayName("updateTask - Should issue one UPDATE that writes only changed columns, plus the list version bump")
+    void updateTask_ShouldIssueOneStatement() {
+        // Arrange
+        TaskResponse created = createTask();
+        TaskRequest request = TaskRequest.builder()
+                .title("Renamed")
+                .description("Long description")
+                .status(TaskStatus.DONE)
+                .dueDate(LocalDate.of(2030, 1, 1))
+                .build();
+
+        // Act
+        TaskResponse[] updated = new TaskResponse[1];
+        List<String> statements = recordSql(() -> updated[0] = taskService.updateTask(created.getId(), request));
+
+        // Assert
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).containsIgnoringCase("update tasks")
+                .containsIgnoringCase("description = CASE WHEN description IS DISTINCT FROM");
+        assertThat(statements.get(1)).containsIgnoringCase("update task_list_version");
+        assertThat(updated[0].getTitle()).isEqualTo("Renamed");
+        assertThat(updated[0].getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(updated[0].getPriority()).isEqualTo(Priority.LOW);
+        assertThat(updated[0].getVersion()).isEqualTo(created.getVersion() + 1);
+        assertThat(updated[0].getCreatedAt()).isEqualTo(created.getCreatedAt());
+        assertThat(updated[0].getUpdatedAt()).isAfter(created.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("updateTask - Should keep version and updatedAt and skip the list version bump when nothing changed")
+    void updateTask_ShouldNotBumpVersion_WhenUnchanged() {
+        // Arrange
+        TaskResponse created = createTask();
+        TaskRequest request = TaskRequest.builder()
+                .title(created.getTitle())
+                .description(created.getDescription())
+                .build();
+
+        // Act
+        TaskResponse[] result = new TaskResponse[1];
+        List<String> statements = recordSql(() -> result[0] = taskService.updateTask(created.getId(), request));
+        TaskResponse updated = result[0];
+
+        // Assert
+        assertThat(statements).hasSize(1);
+        assertThat(updated.getVersion()).isEqualTo(created.getVersion());
+        assertThat(updated.getUpdatedAt()).isEqualTo(created.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("updateTask - Should issue one statement and throw when the task does not exist")
+    void updateTask_ShouldIssueOneStatement_WhenNotFound() {
+        TaskRequest request = TaskRequest.builder().title("Missing").build();
+
+        List<String> statements = recordSql(() ->
+                assertThatThrownBy(() -> taskService.updateTask(Long.MAX_VALUE, request))
+                        .isInstanceOf(TaskNotFoundException.class));
+
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("patchTask - Should issue one UPDATE touching only the patched columns, plus the list version bump")
+    void patchTask_ShouldIssueOneStatement() {
+        // Arrange
+        TaskResponse created = createTask();
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("status", "IN_PROGRESS");
+        patch.put("dueDate", null);
+
+        // Act
+        TaskResponse[] patched = new TaskResponse[1];
+        List<String> statements = recordSql(() ->
+                patched[0] = taskService.patchTask(created.getId(), patch, created.getVersion()));
+
+        // Assert
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).containsIgnoringCase("update tasks")
+                .doesNotContainIgnoringCase("description =")
+                .doesNotContainIgnoringCase("title =");
+        assertThat(patched[0].getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(patched[0].getTitle()).isEqualTo("Original");
+        assertThat(patched[0].getDescription()).isEqualTo("Long description");
+        assertThat(patched[0].getVersion()).isEqualTo(created.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("patchTask - Should reject a stale version without writing")
+    void patchTask_ShouldThrowConflict_WhenVersionIsStale() {
+        // Arrange
+        TaskResponse created = createTask();
+        taskService.patchTask(created.getId(), Map.of("title", "First writer"), created.getVersion());
+
+        // Act
+        List<String> statements = recordSql(() ->
+                assertThatThrownBy(() -> taskService.patchTask(
+                        created.getId(), Map.of("title", "Second writer"), created.getVersion()))
+                        .isInstanceOf(TaskVersionConflictException.class));
+
+        // Assert
+        assertThat(statements).hasSize(2);
+        assertThat(taskService.getTask(created.getId()).getTitle()).isEqualTo("First writer");
+    }
+
+    @Test
+    @DisplayName("deleteTask - Should issue one DELETE plus the tombstone insert and the list version bump")
+    void deleteTask_ShouldIssueOneDelete() {
+        // Arrange
+        TaskResponse created = createTask();
+
+        // Act
+        List<String> statements = recordSql(() -> taskService.deleteTask(created.getId()));
+
+        // Assert
+        assertThat(statements).hasSize(3);
+        assertThat(statements.get(0)).containsIgnoringCase("delete from tasks");
+        assertThat(statements.subList(1, 3))
+                .anySatisfy(sql -> assertThat(sql).containsIgnoringCase("insert into task_tombstones"))
+                .anySatisfy(sql -> assertThat(sql).containsIgnoringCase("update task_list_version"));
+        assertThatThrownBy(() -> taskService.getTask(created.getId())).isInstanceOf(TaskNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("deleteTask - Should issue one statement and throw when the task does not exist")
+    void deleteTask_ShouldIssueOneStatement_WhenNotFound() {
+        List<String> statements = recordSql(() ->
+                assertThatThrownBy(() -> taskService.deleteTask(Long.MAX_VALUE))
+                        .isInstanceOf(TaskNotFoundException.class));
+
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0)).containsIgnoringCase("delete from tasks");
+    }
+}
@@ -1,34 +1,63 @@
 package com.callanga.task_manager.service;
 
+import com.callanga.task_manager.dto.TaskField;
+import com.callanga.task_manager.dto.TaskPageResponse;
+import com.callanga.task_manager.dto.TaskQuery;
 import com.callanga.task_manager.dto.TaskRequest;
 import com.callanga.task_manager.dto.TaskResponse;
+import com.callanga.task_manager.dto.TaskSliceResponse;
+import com.callanga.task_manager.dto.TaskSummaryResponse;
 import com.callanga.task_manager.entity.Priority;
 import com.callanga.task_manager.entity.Task;
 import com.callanga.task_manager.entity.TaskStatus;
+import com.callanga.task_manager.event.TaskChangedEvent;
+import com.callanga.task_manager.exception.InvalidCursorException;
+import com.callanga.task_manager.exception.InvalidTaskPatchException;
+import com.callanga.task_manager.exception.InvalidTaskQueryException;
 import com.callanga.task_manager.exception.TaskNotFoundException;
+import com.callanga.task_manager.exception.TaskVersionConflictException;
 import com.callanga.task_manager.repository.TaskRepository;
+import com.callanga.task_manager.repository.TaskSummary;
+import com.callanga.task_manager.search.TaskSearchEngine;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for TaskService.
- * Uses mocked repository - no database required.
+ * Uses mocked repository and a real bean validator - no database required.
  */
 @ExtendWith(MockitoExtension.class)
 class TaskServiceTest {
@@ -36,6 +65,15 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskSearchEngine taskSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -88,6 +126,7 @@ class TaskServiceTest {
         assertThat(response.getStatus()).isEqualTo(TaskStatus.TODO);
 
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.created(response));
     }
 
     @Test
@@ -148,30 +187,263 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findById(999L);
     }
 
+    private static TaskSummary summary(Long id, String title, String descriptionHead, LocalDateTime createdAt) {
+        return new TaskSummary(id, title, descriptionHead, TaskStatus.TODO, Priority.MEDIUM, null,
+                createdAt, createdAt, 0L);
+    }
+
     @Test
-    @DisplayName("getAllTasks - Should return all tasks")
+    @DisplayName("getAllTasks - Should return summaries of all tasks")
     void getAllTasks_ShouldReturnAllTasks() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(taskRepository.findFirstSummaryPage(Limit.of(TaskService.MAX_LIST_SIZE)))
+                .thenReturn(Arrays.asList(summary(1L, "Test Task", "Short", now), summary(2L, "Task 2", null, now)));
+
+        // Act
+        List<TaskSummaryResponse> responses = taskService.getAllTasks();
+
+        // Assert
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).getTitle()).isEqualTo("Test Task");
+        assertThat(responses.get(0).getDescriptionPreview()).isEqualTo("Short");
+        assertThat(responses.get(1).getTitle()).isEqualTo("Task 2");
+        assertThat(responses.get(1).getDescriptionPreview()).isNull();
+
+        verify(taskRepository, times(1)).findFirstSummaryPage(Limit.of(TaskService.MAX_LIST_SIZE));
+        verify(taskRepository, never()).findAll();
+        verify(taskRepository, never()).findFirstPage(any());
+    }
+
+    @Test
+    @DisplayName("getAllTasks - Should cut the description preview and flag it as truncated")
+    void getAllTasks_ShouldTruncateDescriptionPreview() {
+        // Arrange
+        String head = "x".repeat(TaskSummary.DESCRIPTION_HEAD_LENGTH);
+        String exact = "y".repeat(TaskSummary.DESCRIPTION_PREVIEW_LENGTH);
+        LocalDateTime now = LocalDateTime.now();
+        when(taskRepository.findFirstSummaryPage(any(Limit.class)))
+                .thenReturn(List.of(summary(1L, "Long", head, now), summary(2L, "Exact", exact, now)));
+
+        // Act
+        List<TaskSummaryResponse> responses = taskService.getAllTasks();
+
+        // Assert
+        assertThat(responses.get(0).getDescriptionPreview()).hasSize(TaskSummary.DESCRIPTION_PREVIEW_LENGTH);
+        assertThat(responses.get(0).isDescriptionTruncated()).isTrue();
+        assertThat(responses.get(1).getDescriptionPreview()).isEqualTo(exact);
+        assertThat(responses.get(1).isDescriptionTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getTaskListETag - Should follow the list version without reading tasks")
+    void getTaskListETag_ShouldFollowListVersion() {
+        // Arrange
+        when(taskRepository.findListVersion()).thenReturn(41L, 41L, 42L);
+
+        // Act
+        String original = taskService.getTaskListETag();
+        String unchanged = taskService.getTaskListETag();
+        String changed = taskService.getTaskListETag();
+
+        // Assert
+        assertThat(unchanged).isEqualTo(original).isEqualTo("29");
+        assertThat(changed).isEqualTo("2a");
+        verify(taskRepository, never()).findFirstSummaryPage(any());
+    }
+
+    @Test
+    @DisplayName("getTaskPage - Should return next cursor when more rows exist")
+    void getTaskPage_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // Arrange
+        TaskSummary task1 = summary(1L, "Test Task", null, sampleTask.getCreatedAt());
+        TaskSummary task2 = summary(2L, "Task 2", null, sampleTask.getCreatedAt().plusSeconds(1));
+        TaskSummary task3 = summary(3L, "Task 3", null, sampleTask.getCreatedAt().plusSeconds(2));
+
+        when(taskRepository.findFirstSummaryPage(Limit.of(3))).thenReturn(Arrays.asList(task1, task2, task3));
+
+        // Act
+        TaskPageResponse<TaskSummaryResponse> page = taskService.getTaskPage(null, 2);
+
+        // Assert
+        assertThat(page.getItems()).extracting(TaskSummaryResponse::getId).containsExactly(1L, 2L);
+        assertThat(page.getLimit()).isEqualTo(2);
+        assertThat(TaskCursor.decode(page.getNextCursor())).isEqualTo(TaskCursor.of(task2));
+    }
+
+    @Test
+    @DisplayName("getTaskPage - Should seek after cursor and stop on last page")
+    void getTaskPage_ShouldSeekAfterCursor() {
+        // Arrange
+        TaskCursor cursor = TaskCursor.of(sampleTask);
+        TaskSummary task2 = summary(2L, "Task 2", null, sampleTask.getCreatedAt().plusSeconds(1));
+
+        when(taskRepository.findSummaryPageAfter(cursor.getCreatedAt(), 1L,
+                Limit.of(TaskService.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(List.of(task2));
+
+        // Act
+        TaskPageResponse<TaskSummaryResponse> page = taskService.getTaskPage(cursor.encode(), null);
+
+        // Assert
+        assertThat(page.getItems()).extracting(TaskSummaryResponse::getId).containsExactly(2L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("getTaskPage - Should clamp limit to maximum page size")
+    void getTaskPage_ShouldClampLimit() {
+        // Arrange
+        when(taskRepository.findFirstSummaryPage(any(Limit.class))).thenReturn(List.of());
+
+        // Act
+        TaskPageResponse<TaskSummaryResponse> page = taskService.getTaskPage(null, 100_000);
+
+        // Assert
+        assertThat(page.getLimit()).isEqualTo(TaskService.MAX_PAGE_SIZE);
+        verify(taskRepository).findFirstSummaryPage(Limit.of(TaskService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("getTaskPage - Should select requested fields plus the keyset columns and return only the requested")
+    void getTaskPage_ShouldSelectOnlyRequestedFields() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", id);
+            row.put("title", "Task " + id);
+            row.put("createdAt", createdAt.plusSeconds(id));
+            rows.add(row);
+        }
+        when(taskRepository.findFields(eq(EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.CREATED_AT)),
+                any(), eq(Sort.by("createdAt", "id")), eq(0), eq(3))).thenReturn(rows);
+
+        // Act
+        TaskPageResponse<Map<String, Object>> page = taskService.getTaskPage(null, 2, EnumSet.of(TaskField.TITLE));
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(Map.of("title", "Task 1"), Map.of("title", "Task 2"));
+        assertThat(TaskCursor.decode(page.getNextCursor())).isEqualTo(new TaskCursor(createdAt.plusSeconds(2), 2L));
+        verify(taskRepository, never()).findFirstSummaryPage(any());
+    }
+
+    @Test
+    @DisplayName("getTaskPage - Should reject malformed cursor")
+    void getTaskPage_ShouldThrowException_WhenCursorMalformed() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getTaskPage("not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("queryTasks - Should return slice of matching tasks")
+    void queryTasks_ShouldReturnSlice() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder()
+                .status(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                .priority(Set.of(Priority.MEDIUM))
+                .title("test")
+                .sort("dueDate,desc")
+                .size(1)
+                .build();
+
+        when(taskRepository.findBy(ArgumentMatchers.<Specification<Task>>any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(sampleTask), PageRequest.of(0, 1), true));
+
+        // Act
+        TaskSliceResponse<TaskResponse> result = taskService.queryTasks(query);
+
+        // Assert
+        assertThat(result.getItems()).extracting(TaskResponse::getId).containsExactly(1L);
+        assertThat(result.getSize()).isEqualTo(1);
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("queryTasks - Should select only the requested fields for the requested slice")
+    void queryTasks_ShouldSelectOnlyRequestedFields() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder().page(2).size(10).sort("dueDate,desc").build();
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.DUE_DATE);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long id = 1; id <= 11; id++) {
+            rows.add(new LinkedHashMap<>(Map.of("id", id)));
+        }
+        when(taskRepository.findFields(eq(fields), any(), any(Sort.class), eq(20), eq(11))).thenReturn(rows);
+
+        // Act
+        TaskSliceResponse<Map<String, Object>> result = taskService.queryTasks(query, fields);
+
+        // Assert
+        assertThat(result.getItems()).hasSize(10);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getPage()).isEqualTo(2);
+        verify(taskRepository, never()).findBy(ArgumentMatchers.<Specification<Task>>any(), any());
+    }
+
+    @Test
+    @DisplayName("queryTasks - Should reject unsupported sort property")
+    void queryTasks_ShouldThrowException_WhenSortUnsupported() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder().sort("description,asc").build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.queryTasks(query))
+                .isInstanceOf(InvalidTaskQueryException.class)
+                .hasMessageContaining("description");
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("queryTasks - Should reject inverted due date range")
+    void queryTasks_ShouldThrowException_WhenDueRangeInverted() {
+        // Arrange
+        TaskQuery query = TaskQuery.builder()
+                .dueFrom(LocalDate.of(2025, 2, 1))
+                .dueTo(LocalDate.of(2025, 1, 1))
+                .build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.queryTasks(query))
+                .isInstanceOf(InvalidTaskQueryException.class);
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("searchTasks - Should return tasks in engine ranking order")
+    void searchTasks_ShouldPreserveRanking() {
         // Arrange
         Task task2 = Task.builder()
                 .id(2L)
                 .title("Task 2")
-                .status(TaskStatus.IN_PROGRESS)
-                .priority(Priority.HIGH)
                 .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(sampleTask, task2));
+        when(taskSearchEngine.search("report", TaskService.DEFAULT_PAGE_SIZE)).thenReturn(List.of(2L, 1L, 3L));
+        // Task 3 was deleted after the engine saw it; findAllById also returns rows out of order
+        when(taskRepository.findAllById(List.of(2L, 1L, 3L))).thenReturn(List.of(sampleTask, task2));
 
         // Act
-        List<TaskResponse> responses = taskService.getAllTasks();
+        List<TaskResponse> results = taskService.searchTasks("  report ", null);
 
         // Assert
-        assertThat(responses).hasSize(2);
-        assertThat(responses.get(0).getTitle()).isEqualTo("Test Task");
-        assertThat(responses.get(1).getTitle()).isEqualTo("Task 2");
+        assertThat(results).extracting(TaskResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("searchTasks - Should reject blank search text")
+    void searchTasks_ShouldThrowException_WhenTextBlank() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.searchTasks(" ", 10))
+                .isInstanceOf(InvalidTaskQueryException.class);
 
-        verify(taskRepository, times(1)).findAll();
+        verifyNoInteractions(taskSearchEngine);
     }
 
     @Test
@@ -192,11 +464,13 @@ class TaskServiceTest {
                 .status(TaskStatus.DONE)
                 .priority(Priority.LOW)
                 .createdAt(sampleTask.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(sampleTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.replaceContent(eq(1L), any(Task.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    updatedTask.setUpdatedAt(invocation.getArgument(2));
+                    return Optional.of(updatedTask);
+                });
 
         // Act
         TaskResponse response = taskService.updateTask(1L, request);
@@ -206,8 +480,27 @@ class TaskServiceTest {
         assertThat(response.getStatus()).isEqualTo(TaskStatus.DONE);
         assertThat(response.getPriority()).isEqualTo(Priority.LOW);
 
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).replaceContent(eq(1L), argThat(values ->
+                values.getTitle().equals("Updated Title") && values.getStatus() == TaskStatus.DONE),
+                any(LocalDateTime.class));
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated(response));
+    }
+
+    @Test
+    @DisplayName("updateTask - Should not publish an event when the stored row did not change")
+    void updateTask_ShouldNotPublish_WhenNothingChanged() {
+        // Arrange
+        TaskRequest request = TaskRequest.builder().title(sampleTask.getTitle()).build();
+        when(taskRepository.replaceContent(eq(1L), any(Task.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(sampleTask));
+
+        // Act
+        TaskResponse response = taskService.updateTask(1L, request);
+
+        // Assert
+        assertThat(response.getVersion()).isEqualTo(sampleTask.getVersion());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -218,40 +511,136 @@ class TaskServiceTest {
                 .title("Updated Title")
                 .build();
 
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.replaceContent(eq(999L), any(Task.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.updateTask(999L, request))
                 .isInstanceOf(TaskNotFoundException.class);
 
-        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("patchTask - Should write only the fields present in the patch")
+    void patchTask_ShouldWriteOnlyPresentFields() {
+        // Arrange
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("status", "DONE");
+        patch.put("dueDate", null);
+
+        sampleTask.setStatus(TaskStatus.DONE);
+        sampleTask.setDueDate(null);
+        sampleTask.setVersion(4L);
+        when(taskRepository.patchContent(eq(1L), any(), eq(3L), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    sampleTask.setUpdatedAt(invocation.getArgument(3));
+                    return Optional.of(sampleTask);
+                });
+
+        // Act
+        TaskResponse response = taskService.patchTask(1L, patch, 3L);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(response.getVersion()).isEqualTo(4L);
+
+        Map<String, Object> expectedChanges = new HashMap<>();
+        expectedChanges.put("status", TaskStatus.DONE);
+        expectedChanges.put("dueDate", null);
+        verify(taskRepository).patchContent(eq(1L), eq(expectedChanges), eq(3L), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.updated(response));
+    }
+
+    @Test
+    @DisplayName("patchTask - Should reject unknown fields, cleared required fields and invalid values")
+    void patchTask_ShouldRejectInvalidPatch() {
+        // Arrange
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("id", 7);
+        patch.put("title", null);
+        patch.put("priority", "URGENT");
+        patch.put("description", "x".repeat(5001));
+        patch.put("dueDate", "next week");
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(1L, patch, null))
+                .isInstanceOf(InvalidTaskPatchException.class)
+                .satisfies(ex -> assertThat(((InvalidTaskPatchException) ex).getErrors())
+                        .containsOnlyKeys("id", "title", "priority", "description", "dueDate")
+                        .containsEntry("description", "Description cannot exceed 5000 characters"));
+
+        verifyNoInteractions(taskRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("patchTask - Should report a conflict when the task is at another version")
+    void patchTask_ShouldThrowConflict_WhenVersionIsStale() {
+        // Arrange
+        when(taskRepository.patchContent(eq(1L), any(), eq(3L), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(1L, Map.of("title", "New"), 3L))
+                .isInstanceOf(TaskVersionConflictException.class)
+                .satisfies(ex -> assertThat(((TaskVersionConflictException) ex).getCurrentVersion()).isEqualTo(5L));
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("patchTask - Should report a conflict without an expected version when the write is lost")
+    void patchTask_ShouldThrowConflict_WhenUnconditionalWriteFindsNoRow() {
+        // Arrange
+        when(taskRepository.patchContent(eq(1L), any(), isNull(), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(1L, Map.of("title", "New"), null))
+                .isInstanceOf(TaskVersionConflictException.class)
+                .hasMessageContaining("current version is 5");
+    }
+
+    @Test
+    @DisplayName("patchTask - Should throw exception when not found")
+    void patchTask_ShouldThrowException_WhenNotFound() {
+        // Arrange
+        when(taskRepository.patchContent(eq(999L), any(), isNull(), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(999L, Map.of("title", "New"), null))
+                .isInstanceOf(TaskNotFoundException.class);
     }
 
     @Test
     @DisplayName("deleteTask - Should delete task when found")
     void deleteTask_ShouldDeleteTask_WhenFound() {
         // Arrange
-        when(taskRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(taskRepository).deleteById(1L);
+        when(taskRepository.deleteTaskById(1L)).thenReturn(1);
 
         // Act
         taskService.deleteTask(1L);
 
         // Assert
-        verify(taskRepository, times(1)).existsById(1L);
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).deleteTaskById(1L);
+        verify(taskRepository, never()).existsById(any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(1L));
     }
 
     @Test
     @DisplayName("deleteTask - Should throw exception when not found")
     void deleteTask_ShouldThrowException_WhenNotFound() {
         // Arrange
-        when(taskRepository.existsById(999L)).thenReturn(false);
+        when(taskRepository.deleteTaskById(999L)).thenReturn(0);
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.deleteTask(999L))
                 .isInstanceOf(TaskNotFoundException.class);
 
-        verify(taskRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher);
     }
 }
@@ -0,0 +1,27 @@
+package com.callanga.task_manager.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * PostgreSQL in a container for tests of the PostgreSQL-only paths (full-text search, partial and
+ * trigram indexes) that embedded H2 cannot run. The application connects to it with its default,
+ * non-test configuration, so the {@code db/migration/postgresql} scripts are applied.
+ *
+ * <pre>{@code
+ * @SpringBootTest
+ * @Import(PostgresTestConfiguration.class)
+ * @Testcontainers(disabledWithoutDocker = true)
+ * }</pre>
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestConfiguration {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer postgres() {
+        return new PostgreSQLContainer("postgres:16-alpine");
+    }
+}
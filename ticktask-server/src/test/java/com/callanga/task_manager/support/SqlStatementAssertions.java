@@ -0,0 +1,45 @@
+package com.callanga.task_manager.support;
+
+import com.callanga.task_manager.jdbc.SqlStatementStats;
+import com.callanga.task_manager.jdbc.SqlStatementTracker;
+import org.assertj.core.api.ListAssert;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins how many SQL statements a piece of work executes, for tests running against the real
+ * DataSource. Statements are captured through the application's own statement tracking, so a
+ * MockMvc call counts exactly what the request filter reports in {@code Server-Timing}.
+ *
+ * <pre>{@code
+ * assertThatSql(() -> mockMvc.perform(get("/api/tasks/{id}", id))).hasSize(1);
+ * }</pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Run the work and return the SQL of each statement it executed, in order.
+     */
+    public static List<String> recordSql(ThrowingCallable work) {
+        SqlStatementStats stats = SqlStatementTracker.capture(() -> {
+            try {
+                work.call();
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        return stats.getStatements();
+    }
+
+    public static ListAssert<String> assertThatSql(ThrowingCallable work) {
+        return assertThat(recordSql(work));
+    }
+}
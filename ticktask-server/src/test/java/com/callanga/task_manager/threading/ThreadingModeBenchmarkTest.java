@@ -0,0 +1,182 @@
+package com.callanga.task_manager.threading;
+
+import com.callanga.task_manager.TaskManagerApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP load benchmark comparing Tomcat's platform worker pool with virtual-thread request handling
+ * on embedded H2. A closed-loop client mix of reads, patches, pages and creates runs against each
+ * mode in turn; throughput and p50/p99 are printed side by side.
+ * Skipped by default; run with:
+ * {@code ./mvnw test -Dtest=ThreadingModeBenchmarkTest -Dbenchmark=true}
+ * and tune with {@code -Dbenchmark.clients=400 -Dbenchmark.seconds=15}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ThreadingModeBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 400);
+    private static final Duration MEASURE = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 15));
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final int SEED_TASKS = 1_000;
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    @Test
+    @DisplayName("Virtual threads should sustain platform-thread throughput without failed requests")
+    void virtualThreads_ShouldSustainPlatformThroughput() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%-9s %10s %9s %9s %8s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "shed", "failed");
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("%-9s %,10.0f %9.2f %9.2f %8d %8d%n", result.mode(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.shed(), result.failed());
+        }
+
+        assertThat(platform.failed()).isZero();
+        assertThat(virtual.failed()).isZero();
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput() * 0.8);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .profiles("test")
+                // Command-line arguments, so they take precedence over application*.properties
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:bench-" + mode + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--logging.level.root=WARN");
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/tasks";
+            long[] ids = seed(http, baseUrl);
+
+            drive(clients, http, baseUrl, ids, WARMUP);
+            return drive(clients, http, baseUrl, ids, MEASURE).withMode(mode);
+        }
+    }
+
+    private static long[] seed(HttpClient http, String baseUrl) throws Exception {
+        long[] ids = new long[SEED_TASKS];
+        for (int i = 0; i < SEED_TASKS; i++) {
+            HttpResponse<String> response = http.send(json(baseUrl, "POST",
+                    "{\"title\":\"Seed " + i + "\",\"description\":\"Benchmark seed task\"}"),
+                    HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = ID.matcher(response.body());
+            assertThat(matcher.find()).isTrue();
+            ids[i] = Long.parseLong(matcher.group(1));
+        }
+        return ids;
+    }
+
+    private static Result drive(ExecutorService clients, HttpClient http, String baseUrl, long[] ids, Duration duration)
+            throws Exception {
+        AtomicLong shed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            int client = c;
+            futures.add(clients.submit(() -> {
+                SplittableRandom random = new SplittableRandom(client);
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = nextRequest(random, baseUrl, ids);
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception ex) {
+                        status = -1;
+                    }
+                    if (status == 503) {
+                        shed.incrementAndGet();
+                    } else if (status < 200 || status >= 300) {
+                        failed.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - sent;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> perClient = new ArrayList<>(CLIENTS);
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(null, all.length / seconds, percentile(all, 0.50), percentile(all, 0.99),
+                shed.get(), failed.get());
+    }
+
+    /**
+     * 70% reads by id, 15% status patches, 10% keyset pages, 5% creates.
+     */
+    private static HttpRequest nextRequest(SplittableRandom random, String baseUrl, long[] ids) {
+        long id = ids[random.nextInt(ids.length)];
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET().build();
+        } else if (roll < 85) {
+            String status = random.nextBoolean() ? "IN_PROGRESS" : "DONE";
+            return json(baseUrl + "/" + id, "PATCH", "{\"status\":\"" + status + "\"}");
+        } else if (roll < 95) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/page?limit=20")).GET().build();
+        }
+        return json(baseUrl, "POST", "{\"title\":\"Load " + random.nextInt() + "\"}");
+    }
+
+    private static HttpRequest json(String url, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis, long shed, long failed) {
+
+        Result withMode(String mode) {
+            return new Result(mode, throughput, p50Millis, p99Millis, shed, failed);
+        }
+    }
+}